@@ -18,67 +18,112 @@
 
 package org.jboss.logging;
 
-import java.util.ArrayDeque;
-
 abstract class AbstractLoggerProvider {
 
-    private final ThreadLocal<ArrayDeque<Entry>> ndcStack = new ThreadLocal<ArrayDeque<Entry>>();
+    // The stack is a persistent linked list, so a pushed entry shares its parent and a captured stack is only its head
+    private final ThreadLocal<Stack> ndcStack = new ThreadLocal<Stack>();
 
     public void clearNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
+        Stack stack = ndcStack.get();
         if (stack != null)
-            stack.clear();
+            stack.head = null;
     }
 
     public String getNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null || stack.isEmpty() ? null : stack.peek().merged;
+        Stack stack = ndcStack.get();
+        return stack == null || stack.head == null ? null : stack.head.merged();
     }
 
     public int getNdcDepth() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null ? 0 : stack.size();
+        Stack stack = ndcStack.get();
+        return stack == null || stack.head == null ? 0 : stack.head.depth;
     }
 
     public String peekNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null || stack.isEmpty() ? "" : stack.peek().current;
+        Stack stack = ndcStack.get();
+        return stack == null || stack.head == null ? "" : stack.head.current;
     }
 
     public String popNdc() {
-        ArrayDeque<Entry> stack = ndcStack.get();
-        return stack == null || stack.isEmpty() ? "" : stack.pop().current;
+        Stack stack = ndcStack.get();
+        if (stack == null || stack.head == null)
+            return "";
+        final Entry head = stack.head;
+        stack.head = head.parent;
+        return head.current;
     }
 
     public void pushNdc(String message) {
-        ArrayDeque<Entry> stack = ndcStack.get();
+        Stack stack = ndcStack.get();
         if (stack == null) {
-            stack = new ArrayDeque<Entry>();
+            stack = new Stack();
             ndcStack.set(stack);
         }
-        stack.push(stack.isEmpty() ? new Entry(message) : new Entry(stack.peek(), message));
+        stack.head = new Entry(stack.head, message);
+    }
+
+    public Object captureNdcState() {
+        Stack stack = ndcStack.get();
+        return stack == null ? null : stack.head;
+    }
+
+    public void restoreNdcState(final Object state) {
+        Stack stack = ndcStack.get();
+        if (stack == null) {
+            if (state == null)
+                return;
+            stack = new Stack();
+            ndcStack.set(stack);
+        }
+        stack.head = (Entry) state;
     }
 
     public void setNdcMaxDepth(int maxDepth) {
-        final ArrayDeque<Entry> stack = ndcStack.get();
+        final Stack stack = ndcStack.get();
         if (stack != null)
-            while (stack.size() > maxDepth)
-                stack.pop();
+            while (stack.head != null && stack.head.depth > maxDepth)
+                stack.head = stack.head.parent;
+    }
+
+    private static final class Stack {
+        private Entry head;
     }
 
-    private static class Entry {
+    private static final class Entry {
 
+        private final Entry parent;
+        private final String current;
+        private final int depth;
+        // Rendered when first requested, a race only renders the same string twice
         private String merged;
-        private String current;
 
-        Entry(String current) {
-            merged = current;
+        Entry(Entry parent, String current) {
+            this.parent = parent;
             this.current = current;
+            depth = parent == null ? 1 : parent.depth + 1;
         }
 
-        Entry(Entry parent, String current) {
-            merged = parent.merged + ' ' + current;
-            this.current = current;
+        String merged() {
+            if (parent == null)
+                return current;
+            String merged = this.merged;
+            if (merged == null) {
+                // Walk up to the nearest entry which was already rendered, so its string is reused
+                final String[] entries = new String[depth];
+                int count = 0;
+                Entry entry = this;
+                do {
+                    entries[count++] = entry.current;
+                    entry = entry.parent;
+                } while (entry.parent != null && entry.merged == null);
+                final StringBuilder builder = new StringBuilder();
+                builder.append(entry.parent == null ? entry.current : entry.merged);
+                for (int i = count - 1; i >= 0; i--) {
+                    builder.append(' ').append(entries[i]);
+                }
+                this.merged = merged = builder.toString();
+            }
+            return merged;
         }
     }
 }
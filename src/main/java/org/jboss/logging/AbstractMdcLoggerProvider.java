@@ -24,37 +24,91 @@ import java.util.Map;
 
 abstract class AbstractMdcLoggerProvider extends AbstractLoggerProvider {
 
-    private final ThreadLocal<Map<String, Object>> mdcMap = new ThreadLocal<Map<String, Object>>();
+    private final ThreadLocal<Context> mdcMap = new ThreadLocal<Context>();
 
     public void clearMdc() {
-        final Map<String, Object> map = mdcMap.get();
-        if (map != null) {
-            map.clear();
+        final Context context = mdcMap.get();
+        if (context != null) {
+            context.clear();
         }
     }
 
     public Object getMdc(String key) {
-        return mdcMap.get() == null ? null : mdcMap.get().get(key);
+        final Context context = mdcMap.get();
+        return context == null ? null : context.map.get(key);
     }
 
     public Map<String, Object> getMdcMap() {
-        final Map<String, Object> map = mdcMap.get();
-        return map == null ? Collections.<String, Object> emptyMap() : map;
+        final Context context = mdcMap.get();
+        return context == null ? Collections.<String, Object> emptyMap() : context.map;
+    }
+
+    public Object captureMdcState() {
+        final Context context = mdcMap.get();
+        if (context == null || context.map.isEmpty()) {
+            return null;
+        }
+        // The map is shared with the state rather than copied, the thread copies it before its next change
+        context.shared = true;
+        return context.map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void restoreMdcState(final Object state) {
+        if (state == null) {
+            mdcMap.remove();
+        } else {
+            final Context context = new Context((Map<String, Object>) state);
+            context.shared = true;
+            mdcMap.set(context);
+        }
     }
 
     public Object putMdc(String key, Object value) {
-        Map<String, Object> map = mdcMap.get();
-        if (map == null) {
-            map = new HashMap<String, Object>();
-            mdcMap.set(map);
+        Context context = mdcMap.get();
+        if (context == null) {
+            context = new Context(new HashMap<String, Object>());
+            mdcMap.set(context);
         }
-        return map.put(key, value);
+        return context.writable().put(key, value);
     }
 
     public void removeMdc(String key) {
-        Map<String, Object> map = mdcMap.get();
-        if (map == null)
+        final Context context = mdcMap.get();
+        if (context == null)
             return;
-        map.remove(key);
+        if (context.map.containsKey(key)) {
+            context.writable().remove(key);
+        }
+    }
+
+    /**
+     * The map of a thread. A map captured by {@link #captureMdcState()} may be restored on other threads, so it is never
+     * modified after it is captured.
+     */
+    private static final class Context {
+        private Map<String, Object> map;
+        private boolean shared;
+
+        private Context(final Map<String, Object> map) {
+            this.map = map;
+        }
+
+        private Map<String, Object> writable() {
+            if (shared) {
+                map = new HashMap<String, Object>(map);
+                shared = false;
+            }
+            return map;
+        }
+
+        private void clear() {
+            if (shared) {
+                map = new HashMap<String, Object>();
+                shared = false;
+            } else {
+                map.clear();
+            }
+        }
     }
 }
@@ -0,0 +1,333 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes {@linkplain LogEvent events} to the log manager on a dedicated thread.
+ * <p>
+ * The events are queued in a preallocated ring buffer. Each slot has a sequence number which tells whether the slot is
+ * free to be written or ready to be read, so threads claim slots with a single compare-and-set and never lock. The
+ * consumer thread drains the buffer in batches. When the buffer is full the {@linkplain Overflow overflow policy}
+ * decides whether the logging thread waits or a message is dropped. Messages logged at {@code ERROR} or {@code FATAL}
+ * are never dropped.
+ * </p>
+ * <p>
+ * The dispatcher is enabled with the {@code org.jboss.logging.provider.async} system property. The buffer is drained
+ * by a shutdown hook, and messages logged after that are written by the logging thread. The JVM runs the shutdown hooks
+ * concurrently, so the hook of a log manager may close its handlers before the buffer is drained. Containers which shut
+ * the log manager down themselves should call {@link LoggerProviders#flush()} first.
+ * </p>
+ * <p>
+ * Messages logged by the consumer thread, for example by an appender, are written directly. Queuing them could wait
+ * forever for room in a buffer only that thread empties.
+ * </p>
+ * <p>
+ * Only the messages of the loggers which {@linkplain Logger#writesOrigin() write the time and thread} of the logging
+ * thread, those of the JBoss Log Manager and {@code java.util.logging}, are queued. The other log managers would write
+ * the time and thread of the consumer, so their messages are written by the logging thread.
+ * </p>
+ */
+final class AsyncDispatcher {
+    static final String ASYNC_KEY = "org.jboss.logging.provider.async";
+    static final String SIZE_KEY = "org.jboss.logging.provider.async.size";
+
+    /**
+     * The dispatcher selected by the system properties or {@code null} if messages are written by the logging thread.
+     */
+    static final AsyncDispatcher INSTANCE = create();
+
+    private static final int DEFAULT_SIZE = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SHUTDOWN_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * What is done with a message logged while the buffer is full.
+     */
+    enum Overflow {
+        /**
+         * The logging thread waits until the message can be queued.
+         */
+        BLOCK,
+        /**
+         * Messages less severe than {@code WARN} are dropped, the logging thread waits for the others.
+         */
+        DROP,
+        /**
+         * The oldest queued message is dropped to make room. A dropped {@code ERROR} or {@code FATAL} message is written
+         * by the logging thread instead.
+         */
+        DROP_OLDEST,
+    }
+
+    private final Overflow overflow;
+    private final int mask;
+    private final AtomicReferenceArray<LogEvent> events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    // The number of events taken from the buffer which have been written or dropped
+    private final AtomicLong processed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean idle;
+    private volatile boolean stopped;
+
+    AsyncDispatcher(final int size, final Overflow overflow) {
+        this.overflow = overflow;
+        final int capacity = size <= 2 ? 2 : Integer.highestOneBit(size - 1) << 1;
+        mask = capacity - 1;
+        events = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        consumer = new Thread(this::run, "jboss-logging-async");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    private static AsyncDispatcher create() {
+        final String value = SecurityActions.getSystemProperty(ASYNC_KEY);
+        if (value == null || value.isEmpty() || "false".equalsIgnoreCase(value)) {
+            return null;
+        }
+        final Overflow overflow;
+        if ("drop".equalsIgnoreCase(value)) {
+            overflow = Overflow.DROP;
+        } else if ("drop-oldest".equalsIgnoreCase(value)) {
+            overflow = Overflow.DROP_OLDEST;
+        } else {
+            overflow = Overflow.BLOCK;
+        }
+        final int size = Math.max(2, Math.min(1 << 30, SecurityActions.getIntSystemProperty(SIZE_KEY, DEFAULT_SIZE)));
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(size, overflow);
+        Runtime.getRuntime().addShutdownHook(new Thread(dispatcher::shutdown, "jboss-logging-async-shutdown"));
+        return dispatcher;
+    }
+
+    /**
+     * Queues the event to be written by the consumer thread.
+     *
+     * @param event the event
+     */
+    void publish(final LogEvent event) {
+        if (stopped || Thread.currentThread() == consumer) {
+            dispatch(event);
+            return;
+        }
+        if (!offer(event) && !overflow(event)) {
+            return;
+        }
+        if (idle) {
+            LockSupport.unpark(consumer);
+        }
+        if (stopped) {
+            // The consumer may have exited before the event was queued
+            drain();
+        }
+    }
+
+    /**
+     * Waits until the events queued before this method was called have been written.
+     */
+    void flush() {
+        final long target = tail.get();
+        while (processed.get() < target && consumer.isAlive()) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Stops the consumer thread after it has written the queued events.
+     */
+    void shutdown() {
+        stopped = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(SHUTDOWN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    // Returns true if the event was queued
+    private boolean overflow(final LogEvent event) {
+        if (overflow == Overflow.DROP && event.getLevel().compareTo(Logger.Level.WARN) > 0) {
+            dropped.increment();
+            return false;
+        }
+        if (overflow == Overflow.DROP_OLDEST) {
+            while (!offer(event)) {
+                final LogEvent oldest = poll();
+                if (oldest != null) {
+                    if (oldest.getLevel().compareTo(Logger.Level.ERROR) <= 0) {
+                        dispatch(oldest);
+                    } else {
+                        dropped.increment();
+                    }
+                    processed.incrementAndGet();
+                }
+            }
+            return true;
+        }
+        while (!offer(event)) {
+            if (stopped) {
+                dispatch(event);
+                return false;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, WAIT_NANOS);
+        }
+        return true;
+    }
+
+    private boolean offer(final LogEvent event) {
+        long position = tail.get();
+        for (;;) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events.set(index, event);
+                    // Publishes the event to the thread which reads the slot
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private LogEvent poll() {
+        long position = head.get();
+        for (;;) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final LogEvent event = events.get(index);
+                    events.set(index, null);
+                    // Frees the slot for the writer of the next lap
+                    sequences.set(index, position + mask + 1);
+                    return event;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    private void run() {
+        final List<LogEvent> batch = new ArrayList<>(BATCH_SIZE);
+        for (;;) {
+            LogEvent event;
+            while (batch.size() < BATCH_SIZE && (event = poll()) != null) {
+                batch.add(event);
+            }
+            if (!batch.isEmpty()) {
+                dispatch(batch);
+                processed.addAndGet(batch.size());
+                batch.clear();
+                reportDropped();
+            } else if (stopped) {
+                reportDropped();
+                return;
+            } else {
+                idle = true;
+                if (head.get() == tail.get()) {
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                }
+                idle = false;
+                reportDropped();
+            }
+        }
+    }
+
+    private void drain() {
+        LogEvent event;
+        while ((event = poll()) != null) {
+            dispatch(event);
+            processed.incrementAndGet();
+        }
+    }
+
+    private void reportDropped() {
+        final long count = dropped.sumThenReset();
+        if (count > 0) {
+            try {
+                LoggerProviders.getProvider().getLogger("org.jboss.logging")
+                        .warnf("%d log messages were dropped because the asynchronous queue was full", count);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    /**
+     * Writes the events, passing consecutive events of the same {@link LogEventProvider} to it as one batch.
+     *
+     * @param events the events
+     */
+    private static void dispatch(final List<LogEvent> events) {
+        final int size = events.size();
+        int start = 0;
+        for (int i = 1; i <= size; i++) {
+            final LogEventProvider provider = events.get(start).provider();
+            if (i == size || events.get(i).provider() != provider) {
+                if (provider == null) {
+                    for (int j = start; j < i; j++) {
+                        dispatch(events.get(j));
+                    }
+                } else {
+                    try {
+                        provider.logAll(events.subList(start, i));
+                    } catch (Throwable ignored) {
+                    }
+                }
+                start = i;
+            }
+        }
+    }
+
+    private static void dispatch(final LogEvent event) {
+        try {
+            event.dispatch();
+        } catch (Throwable ignored) {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A logger which keeps the {@code DEBUG} and {@code TRACE} messages the log manager does not write in a per-thread ring
+ * buffer. When the thread logs an {@code ERROR} or {@code FATAL} message, the buffered messages are written before it, so
+ * the error is logged with the debug output which led to it. Buffered messages which are not followed by an error are
+ * overwritten.
+ * <p>
+ * The buffer is enabled by setting the {@code org.jboss.logging.backtrace} system property to the number of messages
+ * kept for each thread. {@link #isDebugEnabled()} still reports the level of the log manager, so the messages guarded by
+ * it are not buffered, but the log methods pass the other {@code DEBUG} and {@code TRACE} messages to the buffer, where
+ * they are kept unformatted. They are written at their own level under a {@link LevelOverride}, so the log manager
+ * formats them and passes them to its handlers as if the level were enabled, with the diagnostic contexts of the thread
+ * at the time of the error. With an SLF4J backend other than Logback they cannot be forced through and are dropped.
+ * </p>
+ */
+final class BacktraceLogger extends ForwardingLogger {
+    static final String BACKTRACE_KEY = "org.jboss.logging.backtrace";
+
+    /**
+     * The number of messages buffered for each thread, {@code 0} if the buffer is disabled.
+     */
+    static final int SIZE = SecurityActions.getIntSystemProperty(BACKTRACE_KEY, 0);
+
+    private static final long serialVersionUID = 4117283934571364322L;
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(() -> new Buffer(SIZE));
+
+    private final transient Logger logger;
+
+    BacktraceLogger(final String name, final Logger logger) {
+        super(name);
+        this.logger = logger;
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    /**
+     * Returns {@code true} for {@code DEBUG} and {@code TRACE}, as the messages are buffered when the log manager does
+     * not write them.
+     */
+    @Override
+    boolean isLoggable(final Level level) {
+        return level == Level.DEBUG || level == Level.TRACE ? isAllowed(level) : logger.isLoggable(level);
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        if (!enabled) {
+            if (level == Level.DEBUG || level == Level.TRACE) {
+                BUFFER.get().add(logger, level, loggerClassName, printf, message, parameters, thrown, keys, values);
+            }
+            return;
+        }
+        if (level == Level.ERROR || level == Level.FATAL) {
+            BUFFER.get().flush();
+        }
+        forward(level, loggerClassName, printf, message, parameters, thrown, keys, values, true);
+    }
+
+    private static final class Buffer {
+        private final Entry[] entries;
+        private int next;
+        private int count;
+        private boolean flushing;
+
+        private Buffer(final int size) {
+            entries = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = new Entry();
+            }
+        }
+
+        void add(final Logger logger, final Level level, final String loggerClassName, final boolean printf,
+                final Object message, final Object[] parameters, final Throwable thrown, final String[] keys,
+                final Object[] values) {
+            if (flushing) {
+                return;
+            }
+            final Entry entry = entries[next];
+            entry.logger = logger;
+            entry.level = level;
+            entry.loggerClassName = loggerClassName;
+            entry.printf = printf;
+            entry.message = message;
+            entry.parameters = parameters;
+            entry.thrown = thrown;
+            entry.keys = keys;
+            entry.values = values;
+            next = next + 1 == entries.length ? 0 : next + 1;
+            if (count < entries.length) {
+                count++;
+            }
+        }
+
+        void flush() {
+            if (count == 0 || flushing) {
+                return;
+            }
+            flushing = true;
+            try {
+                int index = next - count;
+                if (index < 0) {
+                    index += entries.length;
+                }
+                for (int i = 0; i < count; i++) {
+                    entries[index].write();
+                    index = index + 1 == entries.length ? 0 : index + 1;
+                }
+            } finally {
+                count = 0;
+                flushing = false;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private Logger logger;
+        private Level level;
+        private String loggerClassName;
+        private boolean printf;
+        private Object message;
+        private Object[] parameters;
+        private Throwable thrown;
+        private String[] keys;
+        private Object[] values;
+
+        void write() {
+            try (LevelOverride.Scope ignored = LevelOverride.enable(level, logger.getName())) {
+                if (logger.isEnabled(level)) {
+                    ForwardingLogger.write(logger, level, loggerClassName, printf, message, parameters, thrown, keys,
+                            values);
+                }
+            } finally {
+                // Release the references so the buffer does not keep the parameters reachable
+                logger = null;
+                message = null;
+                parameters = null;
+                thrown = null;
+                keys = null;
+                values = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Arrays;
+
+/**
+ * A child logger returned by {@link Logger#with(String, Object)} which adds bound fields to each message it logs. The
+ * level checks and the messages are forwarded to the parent logger, the fields are added by the parent logger when a
+ * message is logged.
+ */
+final class BoundLogger extends Logger {
+
+    private static final long serialVersionUID = -1963498725614926245L;
+
+    private final Logger parent;
+    private final String[] keys;
+    private final Object[] values;
+
+    BoundLogger(final Logger parent, final String[] keys, final Object[] values) {
+        super(parent.getName());
+        this.parent = parent;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Returns a logger with the fields of the parent logger and the given fields. A field of the parent logger, or an
+     * earlier field of the given fields, is replaced by a field with the same key.
+     *
+     * @param parent the parent logger
+     * @param keys   the keys of the fields
+     * @param values the values of the fields
+     *
+     * @return the child logger
+     */
+    static Logger bind(final Logger parent, final String[] keys, final Object[] values) {
+        for (String key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("The key of a field cannot be null");
+            }
+        }
+        if (!(parent instanceof BoundLogger)) {
+            return merge(parent, new String[0], new Object[0], keys, values);
+        }
+        // Fields are flattened, so a message logged by a child of a child is still a single call to the parent
+        final BoundLogger bound = (BoundLogger) parent;
+        return merge(bound.parent, bound.keys, bound.values, keys, values);
+    }
+
+    private static BoundLogger merge(final Logger parent, final String[] parentKeys, final Object[] parentValues,
+            final String[] keys, final Object[] values) {
+        String[] newKeys = Arrays.copyOf(parentKeys, parentKeys.length + keys.length);
+        Object[] newValues = Arrays.copyOf(parentValues, newKeys.length);
+        int size = parentKeys.length;
+        outer: for (int i = 0; i < keys.length; i++) {
+            for (int j = 0; j < size; j++) {
+                if (newKeys[j].equals(keys[i])) {
+                    newValues[j] = values[i];
+                    continue outer;
+                }
+            }
+            newKeys[size] = keys[i];
+            newValues[size++] = values[i];
+        }
+        if (size < newKeys.length) {
+            newKeys = Arrays.copyOf(newKeys, size);
+            newValues = Arrays.copyOf(newValues, size);
+        }
+        return new BoundLogger(parent, newKeys, newValues);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return parent.isEnabled(level);
+    }
+
+    @Override
+    boolean isLoggable(final Level level) {
+        return parent.isLoggable(level);
+    }
+
+    @Override
+    protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown) {
+        parent.doLog(level, loggerClassName, message, parameters, thrown, keys, values);
+    }
+
+    @Override
+    protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown) {
+        parent.doLogf(level, loggerClassName, format, parameters, thrown, keys, values);
+    }
+
+    @Override
+    void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        final BoundLogger merged = merge(parent, this.keys, this.values, keys, values);
+        parent.doLog(level, loggerClassName, message, parameters, thrown, merged.keys, merged.values);
+    }
+
+    @Override
+    void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        final BoundLogger merged = merge(parent, this.keys, this.values, keys, values);
+        parent.doLogf(level, loggerClassName, format, parameters, thrown, merged.keys, merged.values);
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A logger which bounds the length of the rendered parameters of its messages, so a large parameter is not rendered in
+ * full only to be truncated or discarded by the log manager.
+ * <p>
+ * Bounding is enabled by setting at least one of the following system properties:
+ * </p>
+ * <ul>
+ * <li>{@code org.jboss.logging.format.parameter-length}, the number of characters rendered for each parameter.</li>
+ * <li>{@code org.jboss.logging.format.message-length}, the number of characters rendered for all the parameters of a
+ * message.</li>
+ * <li>{@code org.jboss.logging.format.elements}, the number of elements rendered for each collection, map or array.</li>
+ * </ul>
+ * <p>
+ * The parameters are replaced with views which render them when the message is formatted, whichever formats it. Character
+ * sequences are copied up to the limit, and collections, maps and arrays are rendered element by element until the
+ * limit is reached. Other objects are rendered with {@link Object#toString()} and truncated, so the length of what is
+ * logged is bounded but the cost of rendering them is not: an object with a large {@code toString()} is rendered in full
+ * before it is truncated. Numbers, dates, characters, booleans and {@link Formattable} objects are left as they are, as
+ * their conversions depend on their type.
+ * </p>
+ * <p>
+ * The views are the parameters of the records of the JBoss Log Manager and {@code java.util.logging}, whose formatters
+ * render them. Log4j 2 messages return the original parameters from {@code getParameters()}, and SLF4J messages are
+ * formatted before they are passed to the logger.
+ * </p>
+ */
+final class BoundingLogger extends ForwardingLogger {
+    static final String PARAMETER_LENGTH_KEY = "org.jboss.logging.format.parameter-length";
+    static final String MESSAGE_LENGTH_KEY = "org.jboss.logging.format.message-length";
+    static final String ELEMENTS_KEY = "org.jboss.logging.format.elements";
+
+    /**
+     * The bounds or {@code null} if bounding is disabled.
+     */
+    static final Bounds BOUNDS = bounds();
+
+    private static final long serialVersionUID = 2511418016383577349L;
+    private static final String TRUNCATED = "...";
+    // Nested collections are not rendered below this depth, which also ends the rendering of cycles
+    private static final int MAX_DEPTH = 8;
+
+    private final transient Logger logger;
+    private final transient Bounds bounds;
+
+    BoundingLogger(final String name, final Logger logger) {
+        this(name, logger, BOUNDS);
+    }
+
+    BoundingLogger(final String name, final Logger logger, final Bounds bounds) {
+        super(name);
+        this.logger = logger;
+        this.bounds = bounds;
+    }
+
+    private static Bounds bounds() {
+        final int parameterLength = SecurityActions.getIntSystemProperty(PARAMETER_LENGTH_KEY, -1);
+        final int messageLength = SecurityActions.getIntSystemProperty(MESSAGE_LENGTH_KEY, -1);
+        final int elements = SecurityActions.getIntSystemProperty(ELEMENTS_KEY, -1);
+        if (parameterLength < 0 && messageLength < 0 && elements < 0) {
+            return null;
+        }
+        return new Bounds(parameterLength < 0 ? Integer.MAX_VALUE : parameterLength,
+                messageLength < 0 ? Integer.MAX_VALUE : messageLength, elements < 0 ? Integer.MAX_VALUE : elements);
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        forward(level, loggerClassName, printf, message,
+                enabled && parameters != null && parameters.length > 0 ? bounds.bound(parameters) : parameters, thrown,
+                keys, values, enabled);
+    }
+
+    /**
+     * The limits of the rendered parameters.
+     */
+    static final class Bounds {
+        private final int parameterLength;
+        private final int messageLength;
+        private final int elements;
+
+        Bounds(final int parameterLength, final int messageLength, final int elements) {
+            this.parameterLength = parameterLength;
+            this.messageLength = messageLength;
+            this.elements = elements;
+        }
+
+        /**
+         * Returns the bounded parameters of a message.
+         *
+         * @param parameters the parameters
+         *
+         * @return the parameters themselves if they are within the limits, otherwise a copy with bounded views
+         */
+        Object[] bound(final Object[] parameters) {
+            // Short character sequences and typed parameters are passed as they are
+            long length = 0;
+            boolean bounded = false;
+            for (Object parameter : parameters) {
+                if (parameter instanceof CharSequence) {
+                    final int parameterLength = ((CharSequence) parameter).length();
+                    length += parameterLength;
+                    if (parameterLength > this.parameterLength) {
+                        bounded = true;
+                        break;
+                    }
+                } else if (!typed(parameter)) {
+                    bounded = true;
+                    break;
+                }
+            }
+            if (!bounded && length <= messageLength) {
+                return parameters;
+            }
+            final Budget budget = new Budget(messageLength);
+            final Object[] copy = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                copy[i] = typed(parameters[i]) ? parameters[i] : new Parameter(parameters[i], this, budget);
+            }
+            return copy;
+        }
+
+        /**
+         * Returns the original values of bounded parameters.
+         *
+         * @param parameters the parameters, possibly with bounded views
+         *
+         * @return the parameters themselves if none of them is a view, otherwise a copy with the viewed values
+         */
+        static Object[] values(final Object[] parameters) {
+            Object[] values = parameters;
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] instanceof Parameter) {
+                    if (values == parameters) {
+                        values = parameters.clone();
+                    }
+                    values[i] = ((Parameter) parameters[i]).value;
+                }
+            }
+            return values;
+        }
+
+        private static boolean typed(final Object parameter) {
+            return parameter == null || parameter instanceof Number || parameter instanceof Boolean
+                    || parameter instanceof Character || parameter instanceof Date || parameter instanceof Calendar
+                    || parameter instanceof TemporalAccessor || parameter instanceof Formattable
+                    || parameter instanceof Enum;
+        }
+    }
+
+    // The characters left for the parameters of a message
+    private static final class Budget {
+        private int remaining;
+
+        private Budget(final int remaining) {
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * A view of a parameter which renders it within the limits, once. Character sequences, collections, maps and arrays
+     * are rendered up to the limit, other objects are rendered in full with {@link String#valueOf(Object)} and truncated.
+     */
+    static final class Parameter {
+        private final Object value;
+        private final Bounds bounds;
+        private final Budget budget;
+        // Guarded by the budget, the parameters of a message are rendered in order
+        private String rendered;
+
+        private Parameter(final Object value, final Bounds bounds, final Budget budget) {
+            this.value = value;
+            this.bounds = bounds;
+            this.budget = budget;
+        }
+
+        @Override
+        public String toString() {
+            synchronized (budget) {
+                if (rendered == null) {
+                    final Output output = new Output(Math.min(bounds.parameterLength, budget.remaining));
+                    render(output, value, 0);
+                    budget.remaining -= output.builder.length();
+                    if (output.full) {
+                        output.builder.append(TRUNCATED);
+                    }
+                    rendered = output.builder.toString();
+                }
+                return rendered;
+            }
+        }
+
+        private void render(final Output output, final Object value, final int depth) {
+            if (value instanceof CharSequence) {
+                output.append((CharSequence) value);
+            } else if (depth == MAX_DEPTH && (value instanceof Collection || value instanceof Map
+                    || (value != null && value.getClass().isArray()))) {
+                output.append(TRUNCATED);
+            } else if (value instanceof Collection) {
+                final Collection<?> collection = (Collection<?>) value;
+                renderElements(output, collection.iterator(), collection.size(), false, depth);
+            } else if (value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                renderElements(output, map.entrySet().iterator(), map.size(), true, depth);
+            } else if (value != null && value.getClass().isArray()) {
+                renderArray(output, value, depth);
+            } else {
+                output.append(String.valueOf(value));
+            }
+        }
+
+        private void renderElements(final Output output, final Iterator<?> iterator, final int size, final boolean map,
+                final int depth) {
+            if (!output.append(map ? "{" : "[")) {
+                return;
+            }
+            int count = 0;
+            while (iterator.hasNext()) {
+                if (count == bounds.elements) {
+                    output.append(", ... " + (size - count) + " more");
+                    break;
+                }
+                if (count > 0 && !output.append(", ")) {
+                    return;
+                }
+                final Object element = iterator.next();
+                if (map) {
+                    final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) element;
+                    renderElement(output, entry.getKey(), depth);
+                    if (!output.append("=")) {
+                        return;
+                    }
+                    renderElement(output, entry.getValue(), depth);
+                } else {
+                    renderElement(output, element, depth);
+                }
+                if (output.full) {
+                    return;
+                }
+                count++;
+            }
+            output.append(map ? "}" : "]");
+        }
+
+        private void renderArray(final Output output, final Object array, final int depth) {
+            if (!output.append("[")) {
+                return;
+            }
+            final int length = Array.getLength(array);
+            for (int i = 0; i < length; i++) {
+                if (i == bounds.elements) {
+                    output.append(", ... " + (length - i) + " more");
+                    break;
+                }
+                if (i > 0 && !output.append(", ")) {
+                    return;
+                }
+                renderElement(output, Array.get(array, i), depth);
+                if (output.full) {
+                    return;
+                }
+            }
+            output.append("]");
+        }
+
+        private void renderElement(final Output output, final Object element, final int depth) {
+            // A collection which contains itself is rendered like AbstractCollection renders it
+            if (element == value) {
+                output.append("(this " + (value instanceof Map ? "Map" : "Collection") + ")");
+            } else {
+                render(output, element, depth + 1);
+            }
+        }
+    }
+
+    // A builder which stops appending when its limit is reached
+    private static final class Output {
+        private final StringBuilder builder = new StringBuilder();
+        private final int limit;
+        private boolean full;
+
+        private Output(final int limit) {
+            this.limit = limit;
+        }
+
+        boolean append(final CharSequence text) {
+            if (full) {
+                return false;
+            }
+            final int room = limit - builder.length();
+            if (text.length() > room) {
+                builder.append(text, 0, room);
+                full = true;
+                return false;
+            }
+            builder.append(text);
+            return true;
+        }
+    }
+}
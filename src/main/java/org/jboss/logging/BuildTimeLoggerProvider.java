@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@linkplain LoggerProvider provider} selected while a native image is being built.
+ * <p>
+ * The {@link NativeImageFeature} initializes this class at image build time which makes {@link #TYPE} and
+ * {@link #FACTORY} constants in the image. The factory creates the selected provider with a single constructor call, so
+ * provider discovery is skipped at run time and the providers which were not selected are not reachable. On a JVM, or in
+ * an image built without the feature, both are {@code null}.
+ * </p>
+ * <p>
+ * The provider is selected without creating any provider or initializing any log manager in the image builder. It is
+ * the one named by the {@code org.jboss.logging.provider} system property, else the service provider with the highest
+ * {@linkplain LoggerProvider.Priority priority}, else the first log manager found on the class path in the order used
+ * at run time.
+ * </p>
+ *
+ * @see NativeImageFeature
+ */
+final class BuildTimeLoggerProvider {
+
+    /**
+     * The type of the provider selected at image build time or {@code null} if the provider was not selected at image
+     * build time.
+     */
+    static final Class<? extends LoggerProvider> TYPE = "buildtime"
+            .equals(SecurityActions.getSystemProperty(NativeImageFeature.IMAGE_CODE_KEY))
+                    ? findType(SecurityActions.getSystemProperty(LoggerProviders.LOGGING_PROVIDER_KEY),
+                            BuildTimeLoggerProvider.class.getClassLoader())
+                    : null;
+
+    /**
+     * Creates the provider selected at image build time or {@code null} if the provider was not selected at image build
+     * time.
+     */
+    static final Supplier<LoggerProvider> FACTORY = TYPE == null ? null : factory(TYPE);
+
+    private BuildTimeLoggerProvider() {
+    }
+
+    /**
+     * Selects the type of the provider without creating it.
+     *
+     * @param name the value of the {@code org.jboss.logging.provider} system property or {@code null}
+     * @param cl   the class loader of the log managers
+     *
+     * @return the type of the provider
+     */
+    static Class<? extends LoggerProvider> findType(final String name, final ClassLoader cl) {
+        if ("jboss".equalsIgnoreCase(name)) {
+            return JBossLogManagerProvider.class;
+        } else if ("jdk".equalsIgnoreCase(name)) {
+            return JDKLoggerProvider.class;
+        } else if ("log4j2".equalsIgnoreCase(name)) {
+            return Log4j2LoggerProvider.class;
+        } else if ("log4j".equalsIgnoreCase(name)) {
+            return Log4jLoggerProvider.class;
+        } else if ("slf4j".equalsIgnoreCase(name)) {
+            return Slf4jLoggerProvider.class;
+        }
+        // The service providers are sorted by their type, they are not instantiated
+        final List<ServiceLoader.Provider<LoggerProvider>> candidates = new ArrayList<>();
+        final Iterator<ServiceLoader.Provider<LoggerProvider>> iter = ServiceLoader.load(LoggerProvider.class, cl).stream()
+                .iterator();
+        for (;;)
+            try {
+                if (!iter.hasNext())
+                    break;
+                candidates.add(iter.next());
+            } catch (ServiceConfigurationError ignore) {
+            }
+        if (!candidates.isEmpty()) {
+            candidates.sort(Comparator.comparingInt(LoggerProviders::getPriority).reversed());
+            return candidates.get(0).type();
+        }
+        // The log managers are looked up without initializing them
+        if ("org.jboss.logmanager.LogManager".equals(SecurityActions.getSystemProperty("java.util.logging.manager"))
+                && isPresent(cl, "org.jboss.logmanager.LogManager")) {
+            return JBossLogManagerProvider.class;
+        } else if (isPresent(cl, "org.apache.logging.log4j.Logger", "org.apache.logging.log4j.LogManager",
+                "org.apache.logging.log4j.spi.AbstractLogger")) {
+            return Log4j2LoggerProvider.class;
+        } else if (isPresent(cl, "ch.qos.logback.classic.Logger")) {
+            return Slf4jLoggerProvider.class;
+        } else if (isPresent(cl, "org.apache.log4j.LogManager", "org.apache.log4j.config.PropertySetter")) {
+            return Log4jLoggerProvider.class;
+        }
+        return JDKLoggerProvider.class;
+    }
+
+    /**
+     * Returns the factory of a provider type. Only the factory of the selected type is stored in the image, so the
+     * constructors of the other providers are not reachable.
+     *
+     * @param type the type of the provider
+     *
+     * @return the factory
+     */
+    static Supplier<LoggerProvider> factory(final Class<? extends LoggerProvider> type) {
+        if (type == JBossLogManagerProvider.class) {
+            return JBossLogManagerProvider::new;
+        } else if (type == Log4j2LoggerProvider.class) {
+            return Log4j2LoggerProvider::new;
+        } else if (type == Slf4jLoggerProvider.class) {
+            return Slf4jLoggerProvider::new;
+        } else if (type == Log4jLoggerProvider.class) {
+            return Log4jLoggerProvider::new;
+        } else if (type == JDKLoggerProvider.class) {
+            return JDKLoggerProvider::new;
+        }
+        // Custom providers are created reflectively, the feature registers their constructor
+        return () -> {
+            try {
+                return type.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create the logger provider " + type.getName(), e);
+            }
+        };
+    }
+
+    private static boolean isPresent(final ClassLoader cl, final String... classNames) {
+        try {
+            for (String className : classNames) {
+                Class.forName(className, false, cl);
+            }
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
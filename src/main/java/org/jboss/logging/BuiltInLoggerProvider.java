@@ -0,0 +1,213 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implemented by the providers of this library.
+ * <p>
+ * The loggers of these providers {@linkplain MDCKey#publish() publish} the values of the {@link MDCKey MDC keys} to the
+ * message diagnostics context of the log manager before a message is logged. Values set with an {@link MDCKey} are
+ * therefore only written to the log manager when they are needed. For other providers the values are written
+ * immediately.
+ * </p>
+ * <p>
+ * The providers may also override the bulk operations used by {@link MDC#scope(Map)}, {@link MDC#snapshot()} and
+ * {@link LoggingContext} with the native operations of the log manager.
+ * </p>
+ */
+interface BuiltInLoggerProvider extends LoggerProvider {
+
+    /**
+     * Puts the entries onto the message diagnostics context. A {@code null} value removes the entry.
+     *
+     * @param keys   the keys of the entries
+     * @param values the values of the entries
+     *
+     * @return the state to pass to {@link #restoreMdc(String[], Object)}
+     */
+    default Object putMdcAll(final String[] keys, final Object[] values) {
+        return putEach(this, keys, values);
+    }
+
+    /**
+     * Restores the entries of the message diagnostics context to the state they had before
+     * {@link #putMdcAll(String[], Object[])} was called.
+     *
+     * @param keys  the keys of the entries
+     * @param state the state returned by {@link #putMdcAll(String[], Object[])}
+     */
+    default void restoreMdc(final String[] keys, final Object state) {
+        restoreEach(this, keys, state);
+    }
+
+    /**
+     * Returns an immutable snapshot of the message diagnostics context. Providers should return the immutable map of the
+     * log manager where one exists, so the context is not copied.
+     *
+     * @return the snapshot
+     */
+    default Map<String, Object> getMdcSnapshot() {
+        return copyMdc(this);
+    }
+
+    /**
+     * Returns an immutable copy of the message diagnostics context.
+     *
+     * @param provider the provider
+     *
+     * @return the copy
+     */
+    static Map<String, Object> copyMdc(final LoggerProvider provider) {
+        final Map<String, Object> map = provider.getMdcMap();
+        return map.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(map));
+    }
+
+    /**
+     * Captures the message diagnostics context of the current thread for {@link LoggingContext}. The returned state must
+     * not change when the context is modified.
+     *
+     * @return the state of the context
+     */
+    default Object captureMdcState() {
+        return getMdcSnapshot();
+    }
+
+    /**
+     * Replaces the message diagnostics context of the current thread with a state returned by
+     * {@link #captureMdcState()}.
+     *
+     * @param state the state of the context
+     */
+    default void restoreMdcState(final Object state) {
+        putMdcState(this, state);
+    }
+
+    /**
+     * Captures the nested diagnostics context of the current thread for {@link LoggingContext}. The returned state must
+     * not change when the context is modified.
+     *
+     * @return the state of the context
+     */
+    default Object captureNdcState() {
+        return copyNdcState(this);
+    }
+
+    /**
+     * Replaces the nested diagnostics context of the current thread with a state returned by
+     * {@link #captureNdcState()}.
+     *
+     * @param state the state of the context
+     */
+    default void restoreNdcState(final Object state) {
+        pushNdcState(this, state);
+    }
+
+    /**
+     * Replaces the message diagnostics context with a copy returned by {@link #copyMdc(LoggerProvider)}.
+     *
+     * @param provider the provider
+     * @param state    the copy
+     */
+    static void putMdcState(final LoggerProvider provider, final Object state) {
+        provider.clearMdc();
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = (Map<String, Object>) state;
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            provider.putMdc(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Copies the nested diagnostics context. The provider contract only allows reading the top of the stack, so the
+     * entries are popped and pushed back.
+     *
+     * @param provider the provider
+     *
+     * @return the copy, from the bottom to the top of the stack
+     */
+    static Object copyNdcState(final LoggerProvider provider) {
+        final int depth = provider.getNdcDepth();
+        final String[] entries = new String[depth];
+        for (int i = depth - 1; i >= 0; i--) {
+            entries[i] = provider.popNdc();
+        }
+        for (String entry : entries) {
+            provider.pushNdc(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Replaces the nested diagnostics context with a copy returned by {@link #copyNdcState(LoggerProvider)}.
+     *
+     * @param provider the provider
+     * @param state    the copy
+     */
+    static void pushNdcState(final LoggerProvider provider, final Object state) {
+        provider.clearNdc();
+        for (String entry : (String[]) state) {
+            provider.pushNdc(entry);
+        }
+    }
+
+    /**
+     * Puts the entries onto the message diagnostics context one at a time.
+     *
+     * @param provider the provider
+     * @param keys     the keys of the entries
+     * @param values   the values of the entries
+     *
+     * @return the previous values
+     */
+    static Object putEach(final LoggerProvider provider, final String[] keys, final Object[] values) {
+        final Object[] previous = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] == null) {
+                previous[i] = provider.getMdc(keys[i]);
+                provider.removeMdc(keys[i]);
+            } else {
+                previous[i] = provider.putMdc(keys[i], values[i]);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Restores the previous values returned by {@link #putEach(LoggerProvider, String[], Object[])}. The values are
+     * restored in reverse order so a key that was put more than once ends up with the value it had before the first put.
+     *
+     * @param provider the provider
+     * @param keys     the keys of the entries
+     * @param state    the previous values
+     */
+    static void restoreEach(final LoggerProvider provider, final String[] keys, final Object state) {
+        final Object[] previous = (Object[]) state;
+        for (int i = keys.length - 1; i >= 0; i--) {
+            if (previous[i] == null) {
+                provider.removeMdc(keys[i]);
+            } else {
+                provider.putMdc(keys[i], previous[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A logger which suppresses the exact repeats of a message within a window. The first occurrence of a message is written,
+ * and the repeats logged until the window of the message closes are counted and reported by a single summary message.
+ * <p>
+ * Suppression is enabled by setting the {@code org.jboss.logging.deduplication.window} system property to the length of
+ * the window in milliseconds. Two messages are repeats if they have the same category, level, pattern, parameters, fields
+ * and exception type. They are compared before they are formatted, so a suppressed message is never formatted.
+ * </p>
+ * <p>
+ * The recent messages are kept in a table of {@code org.jboss.logging.deduplication.capacity} slots, {@code 4096} by
+ * default, split into stripes which are locked independently. A message which hashes to the slot of another message
+ * replaces it, so a message may be written more than once per window when many distinct messages are logged. The
+ * summaries of the closed windows are written by the first message logged after they close, or by a daemon thread which
+ * sweeps the table once per window when nothing is logged, so an entry and the parameters it holds are released at most
+ * one window after its own closes. The summaries of the open windows are written by {@link LoggerProviders#flush()} and
+ * by a shutdown hook.
+ * </p>
+ * <p>
+ * A message with a parameter or field whose {@code hashCode()} or {@code equals()} fails is written and never suppressed.
+ * </p>
+ */
+final class DeduplicatingLogger extends ForwardingLogger {
+    static final String WINDOW_KEY = "org.jboss.logging.deduplication.window";
+    static final String CAPACITY_KEY = "org.jboss.logging.deduplication.capacity";
+
+    /**
+     * The length of the window in nanoseconds, {@code 0} if suppression is disabled.
+     */
+    static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(SecurityActions.getIntSystemProperty(WINDOW_KEY, 0));
+
+    private static final long serialVersionUID = -3318170406218582095L;
+    private static final String FQCN = DeduplicatingLogger.class.getName();
+    private static final Table TABLE = WINDOW == 0 ? null
+            : create(SecurityActions.getIntSystemProperty(CAPACITY_KEY, 4096), WINDOW);
+
+    private final transient Logger logger;
+    private final transient Table table;
+
+    DeduplicatingLogger(final String name, final Logger logger) {
+        this(name, logger, TABLE);
+    }
+
+    DeduplicatingLogger(final String name, final Logger logger, final Table table) {
+        super(name);
+        this.logger = logger;
+        this.table = table;
+    }
+
+    /**
+     * Creates a table swept by a daemon thread once per window and flushed when the JVM shuts down.
+     *
+     * @param capacity the number of messages held by the table
+     * @param window   the window in nanoseconds
+     *
+     * @return the table
+     */
+    static Table create(final int capacity, final long window) {
+        final Table table = new Table(capacity, window);
+        final Thread sweeper = new Thread(() -> {
+            try {
+                while (true) {
+                    TimeUnit.NANOSECONDS.sleep(window);
+                    table.sweep(System.nanoTime(), false);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "jboss-logging-deduplication");
+        sweeper.setDaemon(true);
+        sweeper.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(table::flush, "jboss-logging-deduplication-shutdown"));
+        return table;
+    }
+
+    /**
+     * Writes the summaries of the messages repeated in the open windows. Does nothing if suppression is not enabled.
+     */
+    static void flush() {
+        if (TABLE != null) {
+            TABLE.flush();
+        }
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        // Messages which are not enabled do not take a slot
+        if (!enabled || table.accept(logger, getName(), level, printf, message, parameters,
+                thrown == null ? null : thrown.getClass(), keys, values)) {
+            forward(level, loggerClassName, printf, message, parameters, thrown, keys, values, enabled);
+        }
+    }
+
+    /**
+     * The recent messages, hashed into fixed size stripes.
+     */
+    static final class Table {
+        private final Stripe[] stripes;
+        private final int mask;
+        private final int shift;
+        private final long window;
+        // The time at which the table is next swept for closed windows
+        private final AtomicLong nextSweep;
+
+        Table(final int capacity, final long window) {
+            final int count = stripeCount();
+            final int slots = Math.max(1, capacity / count);
+            stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe(slots);
+            }
+            mask = count - 1;
+            shift = Integer.numberOfTrailingZeros(count);
+            this.window = window;
+            nextSweep = new AtomicLong(System.nanoTime() + window);
+        }
+
+        /**
+         * Records a message.
+         *
+         * @return {@code true} if the message should be written, {@code false} if it repeats a message of an open window
+         */
+        boolean accept(final Logger logger, final String name, final Level level, final boolean printf,
+                final Object message, final Object[] parameters, final Class<?> thrown, final String[] keys,
+                final Object[] values) {
+            final long now = System.nanoTime();
+            final int hash;
+            try {
+                hash = hash(name, level, message, parameters, thrown, keys, values);
+            } catch (RuntimeException e) {
+                // A parameter which cannot be hashed cannot be compared either, so the message is not suppressed
+                return true;
+            }
+            final Stripe stripe = stripes[hash & mask];
+            final Entry previous;
+            synchronized (stripe) {
+                // The stripe is selected by the low bits of the hash and the slot by the others
+                final int index = Math.floorMod(hash >> shift, stripe.entries.length);
+                final Entry entry = stripe.entries[index];
+                if (entry != null && now - entry.start < window
+                        && entry.matches(hash, name, level, message, parameters, thrown, keys, values)) {
+                    entry.repeats++;
+                    return false;
+                }
+                previous = entry != null && entry.repeats > 0 ? entry : null;
+                stripe.entries[index] = new Entry(logger, hash, name, level, printf, message, parameters,
+                        thrown, keys, values, now);
+            }
+            // The summaries are written outside the lock, a replaced message is reported before its window closes
+            if (previous != null) {
+                previous.summarize(now);
+            }
+            final long next = nextSweep.get();
+            if (now - next >= 0 && nextSweep.compareAndSet(next, now + window)) {
+                sweep(now, false);
+            }
+            return true;
+        }
+
+        /**
+         * Writes the summaries of the messages repeated in the open windows and clears them.
+         */
+        void flush() {
+            sweep(System.nanoTime(), true);
+        }
+
+        /**
+         * Clears the entries of the closed windows, or of all windows, and writes the summaries of their repeats.
+         *
+         * @param now the current time
+         * @param all {@code true} to clear the entries of the open windows too
+         */
+        void sweep(final long now, final boolean all) {
+            final List<Entry> closed = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    final Entry[] entries = stripe.entries;
+                    for (int i = 0; i < entries.length; i++) {
+                        final Entry entry = entries[i];
+                        if (entry != null && (all || now - entry.start >= window)) {
+                            entries[i] = null;
+                            if (entry.repeats > 0) {
+                                closed.add(entry);
+                            }
+                        }
+                    }
+                }
+            }
+            for (Entry entry : closed) {
+                entry.summarize(now);
+            }
+        }
+
+        private static int hash(final String name, final Level level, final Object message, final Object[] parameters,
+                final Class<?> thrown, final String[] keys, final Object[] values) {
+            int hash = name.hashCode();
+            hash = 31 * hash + level.hashCode();
+            hash = 31 * hash + Objects.hashCode(message);
+            hash = 31 * hash + Arrays.hashCode(parameters);
+            hash = 31 * hash + Objects.hashCode(thrown);
+            hash = 31 * hash + Arrays.hashCode(keys);
+            hash = 31 * hash + Arrays.hashCode(values);
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private static final class Stripe {
+        private final Entry[] entries;
+
+        private Stripe(final int size) {
+            entries = new Entry[size];
+        }
+    }
+
+    private static final class Entry {
+        private final Logger logger;
+        private final int hash;
+        private final String name;
+        private final Level level;
+        private final boolean printf;
+        private final Object message;
+        private final Object[] parameters;
+        private final Class<?> thrown;
+        private final String[] keys;
+        private final Object[] values;
+        private final long start;
+        // Guarded by the stripe
+        private int repeats;
+
+        private Entry(final Logger logger, final int hash, final String name, final Level level, final boolean printf,
+                final Object message, final Object[] parameters, final Class<?> thrown, final String[] keys,
+                final Object[] values, final long start) {
+            this.logger = logger;
+            this.hash = hash;
+            this.name = name;
+            this.level = level;
+            this.printf = printf;
+            this.message = message;
+            this.parameters = parameters;
+            this.thrown = thrown;
+            this.keys = keys;
+            this.values = values;
+            this.start = start;
+        }
+
+        private boolean matches(final int hash, final String name, final Level level, final Object message,
+                final Object[] parameters, final Class<?> thrown, final String[] keys, final Object[] values) {
+            if (this.hash != hash || this.level != level || this.thrown != thrown || !this.name.equals(name)
+                    || !Arrays.equals(this.keys, keys)) {
+                return false;
+            }
+            try {
+                return Objects.equals(this.message, message) && Arrays.equals(this.parameters, parameters)
+                        && Arrays.equals(this.values, values);
+            } catch (RuntimeException e) {
+                // The message replaces the entry, as a failing comparison cannot tell a repeat
+                return false;
+            }
+        }
+
+        private void summarize(final long now) {
+            String text;
+            try {
+                if (printf) {
+                    text = DeferredMessage.format(DeferredMessage.Style.PRINTF, String.valueOf(message), parameters);
+                } else if (parameters == null || parameters.length == 0) {
+                    text = String.valueOf(message);
+                } else {
+                    text = DeferredMessage.format(DeferredMessage.Style.MESSAGE_FORMAT, String.valueOf(message),
+                            parameters);
+                }
+            } catch (IllegalArgumentException e) {
+                // The summary is logged by another message, which the error must not fail
+                text = String.valueOf(message);
+            }
+            logger.doLogf(level, FQCN, "The following message was repeated %d more times in %d ms: %s",
+                    new Object[] { repeats, TimeUnit.NANOSECONDS.toMillis(now - start), text }, null);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.text.MessageFormat;
+
+/**
+ * A message which is formatted when it is first rendered. The message is carried by the log records passed to
+ * {@code java.util.logging} and is the message object of the events passed to Log4j, so that messages which are
+ * discarded by a handler or an appender, or written by another thread, are not formatted by the logging thread. The
+ * records of {@code java.util.logging} still return the formatted message as a string, while Log4j renders the message
+ * object with {@link #toString()}.
+ * <p>
+ * The parameters are copied when the message is created. The parameters themselves are not copied, so they should not be
+ * modified after they have been logged.
+ * </p>
+ */
+final class DeferredMessage {
+
+    /**
+     * The formatting style of the pattern.
+     */
+    enum Style {
+        /**
+         * {@link MessageFormat}-style formatting.
+         */
+        MESSAGE_FORMAT,
+        /**
+         * {@link java.util.Formatter}-style formatting.
+         */
+        PRINTF,
+    }
+
+    private final Style style;
+    private final String pattern;
+    private final Object[] parameters;
+    // Rendered when first requested, a race only renders the same string twice
+    private String formatted;
+
+    private DeferredMessage(final Style style, final String pattern, final Object[] parameters) {
+        this.style = style;
+        this.pattern = pattern;
+        this.parameters = parameters == null ? null : parameters.clone();
+    }
+
+    /**
+     * Creates a message with {@link MessageFormat}-style formatting.
+     *
+     * @param pattern    the pattern
+     * @param parameters the parameters, must not be empty
+     *
+     * @return the message
+     */
+    static DeferredMessage messageFormat(final String pattern, final Object[] parameters) {
+        return new DeferredMessage(Style.MESSAGE_FORMAT, pattern, parameters);
+    }
+
+    /**
+     * Creates a message with {@link java.util.Formatter}-style formatting.
+     *
+     * @param format     the format
+     * @param parameters the parameters or {@code null}
+     *
+     * @return the message
+     */
+    static DeferredMessage printf(final String format, final Object[] parameters) {
+        return new DeferredMessage(Style.PRINTF, format, parameters);
+    }
+
+    /**
+     * Returns the formatted message. A pattern which cannot be formatted with the parameters is returned unformatted, as
+     * {@link java.util.logging.Formatter#formatMessage(java.util.logging.LogRecord)} does, since the error can no longer
+     * be reported to the code which logged the message.
+     *
+     * @return the formatted message
+     */
+    String getFormattedMessage() {
+        String formatted = this.formatted;
+        if (formatted == null) {
+            try {
+                formatted = format(style, pattern, parameters);
+            } catch (IllegalArgumentException e) {
+                formatted = String.valueOf(pattern);
+            }
+            this.formatted = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Formats the pattern with the parameters.
+     *
+     * @param style      the formatting style
+     * @param pattern    the pattern
+     * @param parameters the parameters or {@code null}
+     *
+     * @return the formatted message
+     *
+     * @throws IllegalArgumentException if the pattern cannot be formatted with the parameters, for example an
+     *                                  {@link java.util.IllegalFormatException}
+     */
+    static String format(final Style style, final String pattern, final Object[] parameters) {
+        if (style == Style.PRINTF) {
+            return parameters == null ? String.format(pattern) : String.format(pattern, parameters);
+        }
+        return MessageFormat.format(pattern, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+}
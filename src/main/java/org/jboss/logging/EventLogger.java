@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A logger which passes the messages it logs as {@linkplain LogEvent events} to a {@link LogEventProvider}, or to the
+ * {@linkplain AsyncDispatcher asynchronous dispatcher} if it is enabled and the logger of the provider
+ * {@linkplain Logger#writesOrigin() writes the time and thread} of the events. The events are written to the log manager
+ * with the logger of the provider.
+ */
+final class EventLogger extends ForwardingLogger {
+
+    private static final long serialVersionUID = -3425216862735384925L;
+
+    private final transient LogEventProvider provider;
+    private final transient Logger logger;
+    private final transient AsyncDispatcher dispatcher;
+
+    /**
+     * Creates a new logger.
+     *
+     * @param name     the logger name
+     * @param provider the provider the events are passed to or {@code null} to write them with the logger
+     * @param logger   the logger of the provider
+     */
+    EventLogger(final String name, final LogEventProvider provider, final Logger logger) {
+        super(name);
+        this.provider = provider;
+        this.logger = logger;
+        dispatcher = logger.writesOrigin() ? AsyncDispatcher.INSTANCE : null;
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        if (enabled) {
+            log(new LogEvent(provider, logger, level, loggerClassName, LogEvent.formatStyle(printf, parameters), message,
+                    parameters, thrown, keys, values, dispatcher != null));
+        }
+    }
+
+    private void log(final LogEvent event) {
+        if (dispatcher != null) {
+            dispatcher.publish(event);
+        } else {
+            event.dispatch();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A logger which writes the stack trace of an exception in full only the first time it is logged within a window. Later
+ * occurrences of the same exception are logged with a one line reference to the first one, which counts them.
+ * <p>
+ * Fingerprinting is enabled by setting the {@code org.jboss.logging.fingerprint.window} system property to the length of
+ * the window in milliseconds. The fingerprint of an exception is the type and the top
+ * {@code org.jboss.logging.fingerprint.frames} frames of the stack trace of the exception and of each of its causes,
+ * {@code 5} by default. The fingerprints are kept in a least recently used cache of
+ * {@code org.jboss.logging.fingerprint.capacity} entries, {@code 1024} by default, split in stripes which are locked
+ * independently.
+ * </p>
+ * <p>
+ * The reference is a copy of the exception made by {@link ThrowableCopier}, so it is rendered with the class name and
+ * message of the exception, without its causes and suppressed exceptions and with a single {@code ...(stack trace N
+ * logged at T, N occurrences since)} frame.
+ * </p>
+ */
+final class FingerprintingLogger extends ForwardingLogger {
+    static final String WINDOW_KEY = "org.jboss.logging.fingerprint.window";
+    static final String FRAMES_KEY = "org.jboss.logging.fingerprint.frames";
+    static final String CAPACITY_KEY = "org.jboss.logging.fingerprint.capacity";
+
+    /**
+     * The length of the window in nanoseconds, {@code 0} if fingerprinting is disabled.
+     */
+    static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(SecurityActions.getIntSystemProperty(WINDOW_KEY, 0));
+
+    private static final long serialVersionUID = 6052368112429519707L;
+    private static final String MARKER_CLASS = "..";
+    private static final String MARKER_PREFIX = "stack trace ";
+    private static final Cache CACHE = WINDOW == 0 ? null
+            : new Cache(SecurityActions.getIntSystemProperty(CAPACITY_KEY, 1024),
+                    SecurityActions.getIntSystemProperty(FRAMES_KEY, 5), WINDOW);
+
+    private final transient Logger logger;
+    private final transient Cache cache;
+
+    FingerprintingLogger(final String name, final Logger logger) {
+        this(name, logger, CACHE);
+    }
+
+    FingerprintingLogger(final String name, final Logger logger, final Cache cache) {
+        super(name);
+        this.logger = logger;
+        this.cache = cache;
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        forward(level, loggerClassName, printf, message, parameters, enabled ? reference(thrown) : thrown, keys, values,
+                enabled);
+    }
+
+    private Throwable reference(final Throwable thrown) {
+        return thrown == null || isReference(thrown) ? thrown : cache.reference(thrown);
+    }
+
+    /**
+     * Checks if an exception is a reference to an exception logged in full before.
+     *
+     * @param thrown the exception
+     *
+     * @return {@code true} if the exception is a reference
+     */
+    static boolean isReference(final Throwable thrown) {
+        final StackTraceElement[] stackTrace = thrown.getStackTrace();
+        return stackTrace.length == 1 && MARKER_CLASS.equals(stackTrace[0].getClassName())
+                && stackTrace[0].getFileName() != null && stackTrace[0].getFileName().startsWith(MARKER_PREFIX);
+    }
+
+    /**
+     * The fingerprints of the exceptions logged in full.
+     */
+    static final class Cache {
+        private final int frames;
+        private final long window;
+        private final Stripe[] stripes;
+        private final int mask;
+
+        Cache(final int capacity, final int frames, final long window) {
+            this.frames = frames;
+            this.window = window;
+            // A stripe holds at least one fingerprint, so a small cache has fewer stripes
+            final int count = Math.min(stripeCount(), Integer.highestOneBit(Math.max(1, capacity)));
+            stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe(Math.max(1, capacity / count));
+            }
+            mask = count - 1;
+        }
+
+        /**
+         * Records an exception.
+         *
+         * @param thrown the exception
+         *
+         * @return the exception if it should be logged in full, otherwise a reference to the occurrence logged in full
+         */
+        Throwable reference(final Throwable thrown) {
+            final Fingerprint fingerprint = new Fingerprint(thrown, frames);
+            final int hash = fingerprint.hashCode();
+            final Stripe stripe = stripes[(hash ^ hash >>> 16) & mask];
+            final long now = System.nanoTime();
+            final int count;
+            final long logged;
+            synchronized (stripe) {
+                final Occurrence occurrence = stripe.get(fingerprint);
+                if (occurrence == null || now - occurrence.start >= window) {
+                    stripe.put(fingerprint, new Occurrence(now, System.currentTimeMillis()));
+                    return thrown;
+                }
+                count = ++occurrence.count;
+                logged = occurrence.logged;
+            }
+            final Set<Throwable> omitted = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (thrown.getCause() != null) {
+                omitted.add(thrown.getCause());
+            }
+            Collections.addAll(omitted, thrown.getSuppressed());
+            final StackTraceElement marker = new StackTraceElement(MARKER_CLASS, "", String.format(
+                    MARKER_PREFIX + "%08x logged at %s, %d occurrences since", hash, Instant.ofEpochMilli(logged), count),
+                    -1);
+            return ThrowableCopier.copy(thrown, omitted,
+                    Collections.singletonMap(thrown, new StackTraceElement[] { marker }));
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<Fingerprint, Occurrence> {
+        private static final long serialVersionUID = 3284217480137426313L;
+        private final int capacity;
+
+        private Stripe(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Fingerprint, Occurrence> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private static final class Fingerprint {
+        // The type and top frames of the exception and of each of its causes
+        private final Object[] parts;
+        private final int hash;
+
+        private Fingerprint(final Throwable thrown, final int frames) {
+            final List<Object> parts = new ArrayList<>();
+            final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Throwable t = thrown; t != null && seen.add(t); t = t.getCause()) {
+                parts.add(t.getClass().getName());
+                final StackTraceElement[] stackTrace = t.getStackTrace();
+                parts.addAll(Arrays.asList(stackTrace).subList(0, Math.min(frames, stackTrace.length)));
+            }
+            this.parts = parts.toArray();
+            hash = Arrays.hashCode(this.parts);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            final Fingerprint other = (Fingerprint) obj;
+            return hash == other.hash && Arrays.equals(parts, other.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Occurrence {
+        private final long start;
+        // The wall clock time of the occurrence logged in full, for the reference
+        private final long logged;
+        // Guarded by the stripe
+        private int count;
+
+        private Occurrence(final long start, final long logged) {
+            this.start = start;
+            this.logged = logged;
+        }
+    }
+}
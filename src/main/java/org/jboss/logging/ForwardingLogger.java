@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A logger which forwards the log methods to another logger.
+ * <p>
+ * The four {@code doLog} and {@code doLogf} methods are funnelled into {@link #intercept}, which a subclass overrides to
+ * act on the messages. Whether the level is enabled for the log manager is checked once by the outermost forwarding
+ * logger and passed down the chain, and a message which is not enabled reaches the delegate only if a forwarding logger
+ * in the chain wants it.
+ * </p>
+ */
+abstract class ForwardingLogger extends Logger {
+
+    private static final long serialVersionUID = -1718146497962463727L;
+
+    ForwardingLogger(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the logger the log methods are forwarded to.
+     *
+     * @return the delegate logger
+     */
+    abstract Logger delegate();
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return delegate().isEnabled(level);
+    }
+
+    @Override
+    boolean isLoggable(final Level level) {
+        return delegate().isLoggable(level);
+    }
+
+    @Override
+    protected final void doLog(final Level level, final String loggerClassName, final Object message,
+            final Object[] parameters, final Throwable thrown) {
+        intercept(level, loggerClassName, false, message, parameters, thrown, null, null, delegate().isEnabled(level));
+    }
+
+    @Override
+    protected final void doLogf(final Level level, final String loggerClassName, final String format,
+            final Object[] parameters, final Throwable thrown) {
+        intercept(level, loggerClassName, true, format, parameters, thrown, null, null, delegate().isEnabled(level));
+    }
+
+    @Override
+    final void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        intercept(level, loggerClassName, false, message, parameters, thrown, keys, values, delegate().isEnabled(level));
+    }
+
+    @Override
+    final void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        intercept(level, loggerClassName, true, format, parameters, thrown, keys, values, delegate().isEnabled(level));
+    }
+
+    /**
+     * Intercepts a message. The default implementation {@linkplain #forward forwards} it unchanged.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param printf          {@code true} for {@link java.util.Formatter}-style formatting, {@code false} for
+     *                        {@link java.text.MessageFormat}-style formatting or none if there are no parameters
+     * @param message         the message or format
+     * @param parameters      the parameters or {@code null}
+     * @param thrown          the exception or {@code null}
+     * @param keys            the keys of the fields or {@code null} if the message has no fields
+     * @param values          the values of the fields or {@code null}
+     * @param enabled         whether the level is enabled for the log manager
+     */
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        forward(level, loggerClassName, printf, message, parameters, thrown, keys, values, enabled);
+    }
+
+    /**
+     * Passes a message to the delegate. A message which is not enabled is dropped unless the delegate is also a
+     * forwarding logger.
+     */
+    final void forward(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        final Logger delegate = delegate();
+        if (delegate instanceof ForwardingLogger) {
+            ((ForwardingLogger) delegate).intercept(level, loggerClassName, printf, message, parameters, thrown, keys,
+                    values, enabled);
+        } else if (enabled) {
+            write(delegate, level, loggerClassName, printf, message, parameters, thrown, keys, values);
+        }
+    }
+
+    /**
+     * Writes a message with the matching log method of a logger.
+     */
+    static void write(final Logger logger, final Level level, final String loggerClassName, final boolean printf,
+            final Object message, final Object[] parameters, final Throwable thrown, final String[] keys,
+            final Object[] values) {
+        if (printf) {
+            if (keys == null) {
+                logger.doLogf(level, loggerClassName, (String) message, parameters, thrown);
+            } else {
+                logger.doLogf(level, loggerClassName, (String) message, parameters, thrown, keys, values);
+            }
+        } else if (keys == null) {
+            logger.doLog(level, loggerClassName, message, parameters, thrown);
+        } else {
+            logger.doLog(level, loggerClassName, message, parameters, thrown, keys, values);
+        }
+    }
+
+    /**
+     * Returns the number of stripes of a table shared by the threads writing messages: the power of two at least four
+     * times the number of processors, so threads rarely contend for the same stripe.
+     */
+    static int stripeCount() {
+        return Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1) << 1;
+    }
+}
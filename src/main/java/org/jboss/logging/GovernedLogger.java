@@ -0,0 +1,219 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A logger which discards the less severe messages while more messages are logged than a budget allows.
+ * <p>
+ * Shedding is enabled by setting the {@code org.jboss.logging.overload.budget} system property to the number of messages
+ * which may be logged per second. While more messages are logged, the messages below {@code WARN} are discarded, then,
+ * if the rate stays above the budget, the messages below {@code ERROR}. When the rate has stayed below half of the budget
+ * for ten seconds, the previous level is restored, one level at a time. The {@code FATAL} and {@code ERROR} messages are
+ * never discarded. Each change is logged to the {@code org.jboss.logging} category.
+ * </p>
+ * <p>
+ * Every message logged at a level enabled in the log manager is counted. A level is discarded when the rate of the
+ * written messages exceeds the budget, but it is restored only when the rate of all the messages, including the
+ * discarded ones, drops, so a storm of discarded messages neither escalates nor ends the shedding. The messages are
+ * counted with a striped counter, so logging threads do not contend on it, and the rate is evaluated by the first
+ * message logged or discarded level checked in each second. Checking whether a level is enabled reads a single field
+ * before the level of the log manager is checked.
+ * </p>
+ */
+final class GovernedLogger extends ForwardingLogger {
+    static final String BUDGET_KEY = "org.jboss.logging.overload.budget";
+
+    /**
+     * The governor or {@code null} if shedding is disabled.
+     */
+    static final Governor GOVERNOR = governor();
+
+    private static final long serialVersionUID = 4931837493286133508L;
+
+    private final transient Logger logger;
+    private final transient Governor governor;
+
+    GovernedLogger(final String name, final Logger logger) {
+        this(name, logger, GOVERNOR);
+    }
+
+    GovernedLogger(final String name, final Logger logger, final Governor governor) {
+        super(name);
+        this.logger = logger;
+        this.governor = governor;
+    }
+
+    private static Governor governor() {
+        final int budget = SecurityActions.getIntSystemProperty(BUDGET_KEY, 0);
+        return budget == 0 ? null : new Governor(budget, TimeUnit.SECONDS.toNanos(1), 10);
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return allows(level) && logger.isEnabled(level);
+    }
+
+    @Override
+    boolean isLoggable(final Level level) {
+        return allows(level) && logger.isLoggable(level);
+    }
+
+    private boolean allows(final Level level) {
+        if (governor.allows(level)) {
+            return true;
+        }
+        // A guarded message is not counted, but the check may still restore the level
+        governor.poll();
+        return false;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        final boolean allowed = governor.allows(level);
+        if (enabled) {
+            governor.record(allowed);
+        }
+        if (allowed) {
+            forward(level, loggerClassName, printf, message, parameters, thrown, keys, values, enabled);
+        }
+    }
+
+    /**
+     * The rate of the logged messages and the level below which messages are discarded.
+     */
+    static final class Governor {
+        // The least severe level allowed in each state
+        private static final Level[] LEVELS = { Level.TRACE, Level.WARN, Level.ERROR };
+
+        private final long budget;
+        private final long period;
+        private final int recovery;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder written = new LongAdder();
+        private final AtomicLong nextCheck;
+        // The ordinal of the least severe level allowed, read by every check of a level
+        private volatile int allowed = Level.TRACE.ordinal();
+        // Guarded by this
+        private int state;
+        private int quiet;
+        private long lastCheck;
+
+        /**
+         * Creates a governor.
+         *
+         * @param budget   the number of messages which may be logged per period
+         * @param period   the period in nanoseconds
+         * @param recovery the number of periods the rate must stay below half of the budget to restore a level
+         */
+        Governor(final long budget, final long period, final int recovery) {
+            this.budget = budget;
+            this.period = period;
+            this.recovery = recovery;
+            lastCheck = System.nanoTime();
+            nextCheck = new AtomicLong(lastCheck + period);
+        }
+
+        boolean allows(final Level level) {
+            return level == null || level.ordinal() <= allowed;
+        }
+
+        /**
+         * Returns the least severe level which is not discarded.
+         *
+         * @return the level
+         */
+        Level level() {
+            return Level.values()[allowed];
+        }
+
+        /**
+         * Counts a message and evaluates the rate if a period has elapsed.
+         *
+         * @param allowed {@code true} if the message is written, {@code false} if it is discarded
+         */
+        void record(final boolean allowed) {
+            count.increment();
+            if (allowed) {
+                written.increment();
+            }
+            poll();
+        }
+
+        /**
+         * Evaluates the rate if a period has elapsed.
+         */
+        void poll() {
+            final long now = System.nanoTime();
+            final long next = nextCheck.get();
+            if (now - next >= 0 && nextCheck.compareAndSet(next, now + period)) {
+                check(now);
+            }
+        }
+
+        private void check(final long now) {
+            final String change;
+            final long rate;
+            synchronized (this) {
+                // A check after a quiet time spreads the messages over all the periods since the last check
+                final long periods = Math.max(1, (now - lastCheck) / period);
+                lastCheck = now;
+                final long total = count.sumThenReset() / periods;
+                final long passed = written.sumThenReset() / periods;
+                if (passed > budget) {
+                    rate = passed;
+                    quiet = 0;
+                    if (state == LEVELS.length - 1) {
+                        return;
+                    }
+                    state++;
+                    change = "The rate of %d messages per second exceeds the budget of %d, messages below %s are discarded";
+                } else if (state > 0 && total <= budget / 2) {
+                    rate = total;
+                    quiet += (int) Math.min(periods, recovery);
+                    if (quiet < recovery) {
+                        return;
+                    }
+                    quiet = 0;
+                    state--;
+                    change = state == 0
+                            ? "The rate of %d messages per second is within the budget of %d, no message is discarded"
+                            : "The rate of %d messages per second is within the budget of %d, messages below %s are discarded";
+                } else {
+                    quiet = 0;
+                    return;
+                }
+                allowed = LEVELS[state].ordinal();
+            }
+            // The change is logged to the log manager directly, so it is not discarded
+            LoggerProviders.getProvider().getLogger("org.jboss.logging").logf(state == 0 ? Level.INFO : Level.WARN,
+                    change, rate, budget, LEVELS[state]);
+        }
+    }
+}
@@ -24,6 +24,9 @@ final class JBossLogManagerLogger extends Logger {
 
     private static final long serialVersionUID = 7429618317727584742L;
 
+    private static final String[] NO_KEYS = new String[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
     private final org.jboss.logmanager.Logger logger;
 
     JBossLogManagerLogger(final String name, final org.jboss.logmanager.Logger logger) {
@@ -32,31 +35,100 @@ final class JBossLogManagerLogger extends Logger {
     }
 
     public boolean isEnabled(final Level level) {
-        return logger.isLoggable(translate(level));
+        return isAllowed(level) && (LevelOverride.isForced(level, getName()) || logger.isLoggable(translate(level)));
     }
 
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
         java.util.logging.Level translatedLevel = translate(level);
-        if (logger.isLoggable(translatedLevel)) {
+        final boolean loggable = logger.isLoggable(translatedLevel);
+        if (loggable && LogEvent.origin() == null) {
+            MDCKey.publish();
             if (parameters == null) {
                 logger.log(loggerClassName, translatedLevel, String.valueOf(message), thrown);
             } else {
                 logger.log(loggerClassName, translatedLevel, String.valueOf(message), ExtLogRecord.FormatStyle.MESSAGE_FORMAT,
                         parameters, thrown);
             }
+        } else if (loggable || LevelOverride.isForced(level, getName())) {
+            // Raw records are not checked against the level of the logger
+            logRaw(translatedLevel, loggerClassName, String.valueOf(message),
+                    parameters == null ? ExtLogRecord.FormatStyle.NO_FORMAT : ExtLogRecord.FormatStyle.MESSAGE_FORMAT,
+                    parameters, thrown, NO_KEYS, NO_VALUES);
         }
     }
 
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
-        if (parameters == null) {
-            logger.log(loggerClassName, translate(level), format, thrown);
-        } else {
-            logger.log(loggerClassName, translate(level), format, ExtLogRecord.FormatStyle.PRINTF, parameters, thrown);
+        final java.util.logging.Level translatedLevel = translate(level);
+        final boolean loggable = logger.isLoggable(translatedLevel);
+        if (loggable && LogEvent.origin() == null) {
+            MDCKey.publish();
+            if (parameters == null) {
+                logger.log(loggerClassName, translatedLevel, format, thrown);
+            } else {
+                logger.log(loggerClassName, translatedLevel, format, ExtLogRecord.FormatStyle.PRINTF, parameters, thrown);
+            }
+        } else if (loggable || LevelOverride.isForced(level, getName())) {
+            logRaw(translatedLevel, loggerClassName, format,
+                    parameters == null ? ExtLogRecord.FormatStyle.NO_FORMAT : ExtLogRecord.FormatStyle.PRINTF, parameters,
+                    thrown, NO_KEYS, NO_VALUES);
+        }
+    }
+
+    @Override
+    void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        final java.util.logging.Level translatedLevel = translate(level);
+        if (logger.isLoggable(translatedLevel) || LevelOverride.isForced(level, getName())) {
+            logRaw(translatedLevel, loggerClassName, String.valueOf(message),
+                    parameters == null ? ExtLogRecord.FormatStyle.NO_FORMAT : ExtLogRecord.FormatStyle.MESSAGE_FORMAT,
+                    parameters, thrown, keys, values);
+        }
+    }
+
+    @Override
+    void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        final java.util.logging.Level translatedLevel = translate(level);
+        if (logger.isLoggable(translatedLevel) || LevelOverride.isForced(level, getName())) {
+            logRaw(translatedLevel, loggerClassName, format,
+                    parameters == null ? ExtLogRecord.FormatStyle.NO_FORMAT : ExtLogRecord.FormatStyle.PRINTF, parameters,
+                    thrown, keys, values);
         }
     }
 
+    private void logRaw(final java.util.logging.Level level, final String loggerClassName, final String message,
+            final ExtLogRecord.FormatStyle formatStyle, final Object[] parameters, final Throwable thrown,
+            final String[] keys, final Object[] values) {
+        MDCKey.publish();
+        final ExtLogRecord record = new ExtLogRecord(level, message, formatStyle, loggerClassName);
+        record.setParameters(parameters);
+        record.setThrown(thrown);
+        final LogEvent origin = LogEvent.origin();
+        if (origin != null) {
+            record.setInstant(origin.getInstant());
+            record.setLongThreadID(origin.getThreadId());
+            record.setThreadName(origin.getThreadName());
+            // The caller is on the stack of the thread which logged the message
+            record.disableCallerCalculation();
+        }
+        // The fields are put onto the copy of the MDC owned by the record, the MDC of the thread is not modified
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] == null) {
+                record.removeMdc(keys[i]);
+            } else {
+                record.putMdc(keys[i], String.valueOf(values[i]));
+            }
+        }
+        logger.logRaw(record);
+    }
+
+    @Override
+    boolean writesOrigin() {
+        return true;
+    }
+
     private static java.util.logging.Level translate(final Level level) {
         if (level == Level.TRACE) {
             return org.jboss.logmanager.Level.TRACE;
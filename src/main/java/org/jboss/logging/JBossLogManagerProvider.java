@@ -22,6 +22,7 @@ import static org.jboss.logmanager.Logger.AttachmentKey;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -33,7 +34,7 @@ import org.jboss.logmanager.NDC;
 /**
  * An implementation of the {@linkplain LoggerProvider log provider} for the JBoss Log Manager.
  */
-public final class JBossLogManagerProvider implements LoggerProvider {
+public final class JBossLogManagerProvider implements BuiltInLoggerProvider {
 
     private static final AttachmentKey<Logger> KEY = new AttachmentKey<>();
     private static final AttachmentKey<ConcurrentMap<String, Logger>> LEGACY_KEY = new AttachmentKey<>();
@@ -126,6 +127,12 @@ public final class JBossLogManagerProvider implements LoggerProvider {
         return MDC.copyObject();
     }
 
+    @Override
+    public Map<String, Object> getMdcSnapshot() {
+        // The log manager does not keep an immutable copy of the MDC, the copy is owned by the snapshot
+        return Collections.unmodifiableMap(MDC.copyObject());
+    }
+
     @Override
     public void clearNdc() {
         NDC.clear();
@@ -156,6 +163,17 @@ public final class JBossLogManagerProvider implements LoggerProvider {
         NDC.push(message);
     }
 
+    @Override
+    public Object captureNdcState() {
+        // The entries are read by index so the stack is not modified
+        final int depth = NDC.getDepth();
+        final String[] entries = new String[depth];
+        for (int i = 0; i < depth; i++) {
+            entries[i] = NDC.get(i);
+        }
+        return entries;
+    }
+
     @Override
     public void setNdcMaxDepth(final int maxDepth) {
         NDC.trimTo(maxDepth);
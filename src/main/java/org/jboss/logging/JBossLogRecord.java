@@ -28,6 +28,8 @@ class JBossLogRecord extends LogRecord {
 
     private boolean resolved;
     private final String loggerClassName;
+    // Formatted when the message is first read, the record is serialized with the formatted message
+    private transient DeferredMessage deferredMessage;
 
     JBossLogRecord(final Level level, final String msg) {
         super(level, msg);
@@ -39,6 +41,22 @@ class JBossLogRecord extends LogRecord {
         this.loggerClassName = loggerClassName;
     }
 
+    JBossLogRecord(final Level level, final DeferredMessage msg, final String loggerClassName) {
+        super(level, null);
+        this.loggerClassName = loggerClassName;
+        deferredMessage = msg;
+    }
+
+    public String getMessage() {
+        final DeferredMessage deferredMessage = this.deferredMessage;
+        return deferredMessage == null ? super.getMessage() : deferredMessage.getFormattedMessage();
+    }
+
+    public void setMessage(final String message) {
+        deferredMessage = null;
+        super.setMessage(message);
+    }
+
     public String getSourceClassName() {
         if (!resolved) {
             resolve();
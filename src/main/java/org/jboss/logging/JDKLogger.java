@@ -20,6 +20,9 @@ package org.jboss.logging;
 
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.logging.Filter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
 
 final class JDKLogger extends Logger {
 
@@ -37,6 +40,7 @@ final class JDKLogger extends Logger {
             final Throwable thrown) {
         if (isEnabled(level))
             try {
+                MDCKey.publish();
                 final JBossLogRecord rec = new JBossLogRecord(translate(level), String.valueOf(message), loggerClassName);
                 if (thrown != null)
                     rec.setThrown(thrown);
@@ -44,7 +48,7 @@ final class JDKLogger extends Logger {
                 rec.setParameters(parameters);
                 rec.setResourceBundleName(logger.getResourceBundleName());
                 rec.setResourceBundle(logger.getResourceBundle());
-                logger.log(rec);
+                log(rec);
             } catch (Throwable ignored) {
             }
     }
@@ -53,6 +57,7 @@ final class JDKLogger extends Logger {
             final Throwable thrown) {
         if (isEnabled(level))
             try {
+                MDCKey.publish();
                 final ResourceBundle resourceBundle = logger.getResourceBundle();
                 if (resourceBundle != null)
                     try {
@@ -60,8 +65,8 @@ final class JDKLogger extends Logger {
                     } catch (MissingResourceException e) {
                         // ignore
                     }
-                final String msg = parameters == null ? String.format(format) : String.format(format, parameters);
-                final JBossLogRecord rec = new JBossLogRecord(translate(level), msg, loggerClassName);
+                final JBossLogRecord rec = new JBossLogRecord(translate(level), DeferredMessage.printf(format, parameters),
+                        loggerClassName);
                 if (thrown != null)
                     rec.setThrown(thrown);
                 rec.setLoggerName(getName());
@@ -69,11 +74,43 @@ final class JDKLogger extends Logger {
                 // we've done all the business
                 rec.setResourceBundle(null);
                 rec.setParameters(null);
-                logger.log(rec);
+                log(rec);
             } catch (Throwable ignored) {
             }
     }
 
+    private void log(final LogRecord record) {
+        final LogEvent origin = LogEvent.origin();
+        if (origin != null) {
+            record.setInstant(origin.getInstant());
+            record.setThreadID((int) origin.getThreadId());
+            // The caller is on the stack of the thread which logged the message
+            record.setSourceClassName(null);
+            record.setSourceMethodName(null);
+        }
+        if (logger.isLoggable(record.getLevel())) {
+            logger.log(record);
+        } else {
+            // The level is enabled by a level override, so the record is passed to the handlers the logger would use
+            final Filter filter = logger.getFilter();
+            if (filter == null || filter.isLoggable(record)) {
+                for (java.util.logging.Logger current = logger; current != null; current = current.getParent()) {
+                    for (Handler handler : current.getHandlers()) {
+                        handler.publish(record);
+                    }
+                    if (!current.getUseParentHandlers()) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    boolean writesOrigin() {
+        return true;
+    }
+
     private static java.util.logging.Level translate(final Level level) {
         if (level == Level.TRACE) {
             return JDKLevel.TRACE;
@@ -97,6 +134,6 @@ final class JDKLogger extends Logger {
     }
 
     public boolean isEnabled(final Level level) {
-        return logger.isLoggable(translate(level));
+        return isAllowed(level) && (LevelOverride.isForced(level, getName()) || logger.isLoggable(translate(level)));
     }
 }
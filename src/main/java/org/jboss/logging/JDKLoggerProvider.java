@@ -22,7 +22,7 @@ package org.jboss.logging;
  * An implementation of the {@linkplain LoggerProvider log provider} for the
  * {@linkplain java.util.logging.LogManager JDK Log Manager}.
  */
-public final class JDKLoggerProvider extends AbstractMdcLoggerProvider implements LoggerProvider {
+public final class JDKLoggerProvider extends AbstractMdcLoggerProvider implements BuiltInLoggerProvider {
 
     @Override
     public Logger getLogger(final String name) {
@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A per-thread override of the level of loggers, used to log at a more verbose level for a single request without
+ * reconfiguring the log manager:
+ *
+ * <pre>
+ * try (LevelOverride.Scope ignored = debugRequested ? LevelOverride.enable(Logger.Level.DEBUG) : null) {
+ *     handle(request);
+ * }
+ * </pre>
+ * <p>
+ * While the override is in effect, the loggers of the thread report the levels up to the level of the override as
+ * {@linkplain Logger#isEnabled(Logger.Level) enabled}, and the messages logged at these levels are passed to the
+ * appenders or handlers of the log manager even if the level of the logger is less verbose. The appenders and handlers
+ * still apply their own thresholds and filters. With SLF4J messages can only be forced through Logback, other SLF4J
+ * backends apply the level of the logger.
+ * </p>
+ * <p>
+ * The override is part of the {@link LoggingContext}, so it is carried to the tasks wrapped with the context and to the
+ * thread which writes the messages when asynchronous logging is enabled. When no thread has an override, checking for
+ * one costs a single field read.
+ * </p>
+ * <p>
+ * The scope must be closed on the thread which enabled it, preferably with a try-with-resources statement. A scope
+ * which is not closed leaves the override on its thread, so a pooled thread keeps forcing messages for the tasks it runs
+ * next. The tasks {@linkplain LoggingContext#wrap(Runnable) wrapped} with a context restore the override the thread had
+ * before, and a thread pool can call {@link #clear()} after each task. A thread which ends with an override no longer
+ * counts once it is garbage collected, until then checking for an override reads the thread local.
+ * </p>
+ */
+public final class LevelOverride {
+    // The number of threads with an override, so that the thread local is only read when an override is in effect
+    static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final ThreadLocal<Holder> CURRENT = new ThreadLocal<>();
+
+    private final Logger.Level level;
+    private final String category;
+
+    private LevelOverride(final Logger.Level level, final String category) {
+        this.level = level;
+        this.category = category;
+    }
+
+    /**
+     * Enables the level and the less verbose levels for every logger of the current thread until the returned scope is
+     * closed.
+     *
+     * @param level the most verbose level to enable
+     *
+     * @return the scope which restores the previous override when closed, it must be closed on the same thread
+     */
+    public static Scope enable(final Logger.Level level) {
+        return enable(level, "");
+    }
+
+    /**
+     * Enables the level and the less verbose levels for the loggers of the category and its child categories on the
+     * current thread until the returned scope is closed.
+     *
+     * @param level    the most verbose level to enable
+     * @param category the category, for example {@code org.acme}, or an empty string for every logger
+     *
+     * @return the scope which restores the previous override when closed, it must be closed on the same thread
+     */
+    public static Scope enable(final Logger.Level level, final String category) {
+        if (level == null) {
+            throw new IllegalArgumentException("The level cannot be null");
+        }
+        if (category == null) {
+            throw new IllegalArgumentException("The category cannot be null");
+        }
+        final LevelOverride previous = current();
+        set(new LevelOverride(level, category));
+        return new Scope(previous);
+    }
+
+    /**
+     * Removes the override of the current thread, for example from
+     * {@link java.util.concurrent.ThreadPoolExecutor#afterExecute(Runnable, Throwable)} so that a scope which was not
+     * closed does not leave its override on a pooled thread.
+     */
+    public static void clear() {
+        set(null);
+    }
+
+    /**
+     * Checks whether the override of the current thread enables the level for the logger.
+     *
+     * @param level the level
+     * @param name  the name of the logger
+     *
+     * @return {@code true} if the message should be logged regardless of the level of the logger
+     */
+    static boolean isForced(final Logger.Level level, final String name) {
+        if (ACTIVE.get() == 0) {
+            return false;
+        }
+        final Holder holder = CURRENT.get();
+        final LevelOverride override = holder == null ? null : holder.override;
+        return override != null && level != null && level.compareTo(override.level) <= 0 && override.includes(name);
+    }
+
+    /**
+     * Returns the override of the current thread.
+     *
+     * @return the override or {@code null}
+     */
+    static LevelOverride current() {
+        if (ACTIVE.get() == 0) {
+            return null;
+        }
+        final Holder holder = CURRENT.get();
+        return holder == null ? null : holder.override;
+    }
+
+    /**
+     * Replaces the override of the current thread.
+     *
+     * @param override the override or {@code null} to remove it
+     */
+    static void set(final LevelOverride override) {
+        final Holder holder = CURRENT.get();
+        if (override == null) {
+            if (holder != null) {
+                CURRENT.remove();
+                holder.cleanable.clean();
+            }
+        } else if (holder == null) {
+            CURRENT.set(new Holder(override));
+        } else {
+            holder.override = override;
+        }
+    }
+
+    private boolean includes(final String name) {
+        return category.isEmpty() || (name.startsWith(category)
+                && (name.length() == category.length() || name.charAt(category.length()) == '.'));
+    }
+
+    /**
+     * The override of a thread. The holder is only reachable from the thread local, so it is collected when its thread
+     * ends without removing the override, and the override then stops counting as active.
+     */
+    private static final class Holder {
+        private static final Cleaner CLEANER = Cleaner.create();
+
+        private LevelOverride override;
+        private final Cleaner.Cleanable cleanable;
+
+        private Holder(final LevelOverride override) {
+            this.override = override;
+            ACTIVE.incrementAndGet();
+            // The action must not reference the holder, it decrements the count once, when removed or collected
+            cleanable = CLEANER.register(this, ACTIVE::decrementAndGet);
+        }
+    }
+
+    /**
+     * An override enabled with {@link #enable(Logger.Level)}. Closing the scope restores the override the thread had
+     * before.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final LevelOverride previous;
+        private final Thread owner;
+        private boolean closed;
+
+        private Scope(final LevelOverride previous) {
+            this.previous = previous;
+            this.owner = Thread.currentThread();
+        }
+
+        /**
+         * Restores the previous override. Closing the scope more than once has no effect.
+         *
+         * @throws IllegalStateException if the scope is closed on another thread than the one which enabled it, in
+         *                               which case neither thread is changed
+         */
+        @Override
+        public void close() {
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("The scope must be closed on the thread which enabled it: " + owner);
+            }
+            if (!closed) {
+                closed = true;
+                set(previous);
+            }
+        }
+    }
+}
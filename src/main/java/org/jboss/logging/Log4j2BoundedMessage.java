@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.logging;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * A message whose parameters were {@linkplain BoundingLogger bounded}. The message is formatted with the bounded views of
+ * the parameters, while {@link #getParameters()} returns the original values to filters and layouts. A deserialized
+ * message returns the parameters of the deserialized message it wraps, which log4j renders as strings.
+ */
+final class Log4j2BoundedMessage implements Message, StringBuilderFormattable {
+
+    private static final long serialVersionUID = -3215617096392357207L;
+
+    private final Message message;
+    private transient Object[] parameters;
+
+    Log4j2BoundedMessage(final Message message, final Object[] parameters) {
+        this.message = message;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Returns the message itself if none of its parameters were bounded, otherwise a message which returns the original
+     * values of the parameters.
+     *
+     * @param message    the message formatted with the parameters
+     * @param parameters the parameters, possibly with bounded views
+     *
+     * @return the message
+     */
+    static Message of(final Message message, final Object[] parameters) {
+        if (parameters == null) {
+            return message;
+        }
+        final Object[] values = BoundingLogger.Bounds.values(parameters);
+        return values == parameters ? message : new Log4j2BoundedMessage(message, values);
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        return message.getFormattedMessage();
+    }
+
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        buffer.append(message.getFormattedMessage());
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return message.getThrowable();
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        parameters = message.getParameters();
+    }
+}
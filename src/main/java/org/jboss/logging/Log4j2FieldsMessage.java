@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringMapMessage;
+
+/**
+ * A map message which carries the bound fields of a {@linkplain Logger#with(String, Object) child logger}. The fields are
+ * the data of the map, available to layouts and lookups such as {@code %K{key}}, while the formatted message is the text
+ * of the logged message.
+ */
+final class Log4j2FieldsMessage extends StringMapMessage {
+
+    private static final long serialVersionUID = 2815237421373960574L;
+
+    private final Message message;
+    private final String format;
+
+    Log4j2FieldsMessage(final Message message, final String format, final String[] keys, final Object[] values) {
+        super(keys.length);
+        this.message = message;
+        this.format = format;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                with(keys[i], String.valueOf(values[i]));
+            }
+        }
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        return message.getFormattedMessage();
+    }
+
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        buffer.append(message.getFormattedMessage());
+    }
+
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return message.getParameters();
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return message.getThrowable();
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+}
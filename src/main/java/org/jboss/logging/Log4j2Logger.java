@@ -20,6 +20,7 @@ package org.jboss.logging;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.LoggingException;
+import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFormatMessageFactory;
 import org.apache.logging.log4j.message.StringFormattedMessage;
 import org.apache.logging.log4j.spi.AbstractLogger;
@@ -44,18 +45,19 @@ final class Log4j2Logger extends Logger {
 
     @Override
     public boolean isEnabled(final Level level) {
-        return this.logger.isEnabled(Log4j2Logger.translate(level));
+        return isAllowed(level)
+                && (LevelOverride.isForced(level, getName()) || this.logger.isEnabled(Log4j2Logger.translate(level)));
     }
 
     @Override
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
         final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
-        if (this.logger.isEnabled(translatedLevel)) {
+        // The level of the logger is only checked by isEnabled, so messages forced by a level override are logged
+        if (this.logger.isEnabled(translatedLevel) || LevelOverride.isForced(level, getName())) {
             try {
-                this.logger.logMessage(loggerClassName, translatedLevel, null,
-                        (parameters == null || parameters.length == 0) ? this.messageFactory.newMessage(String.valueOf(message))
-                                : this.messageFactory.newMessage(String.valueOf(message), parameters),
+                MDCKey.publish();
+                this.logger.logMessage(loggerClassName, translatedLevel, null, newMessage(String.valueOf(message), parameters),
                         thrown);
             } catch (Throwable ignored) {
             }
@@ -66,15 +68,54 @@ final class Log4j2Logger extends Logger {
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
         final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
-        if (this.logger.isEnabled(translatedLevel)) {
+        if (this.logger.isEnabled(translatedLevel) || LevelOverride.isForced(level, getName())) {
             try {
-                this.logger.logMessage(loggerClassName, translatedLevel, null, new StringFormattedMessage(format, parameters),
+                MDCKey.publish();
+                this.logger.logMessage(loggerClassName, translatedLevel, null,
+                        Log4j2BoundedMessage.of(new StringFormattedMessage(format, parameters), parameters),
                         thrown);
             } catch (Throwable ignored) {
             }
         }
     }
 
+    @Override
+    void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) || LevelOverride.isForced(level, getName())) {
+            try {
+                MDCKey.publish();
+                final String format = String.valueOf(message);
+                this.logger.logMessage(loggerClassName, translatedLevel, null,
+                        new Log4j2FieldsMessage(newMessage(format, parameters), format, keys, values), thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    @Override
+    void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        final org.apache.logging.log4j.Level translatedLevel = Log4j2Logger.translate(level);
+        if (this.logger.isEnabled(translatedLevel) || LevelOverride.isForced(level, getName())) {
+            try {
+                MDCKey.publish();
+                this.logger.logMessage(loggerClassName, translatedLevel, null,
+                        new Log4j2FieldsMessage(
+                                Log4j2BoundedMessage.of(new StringFormattedMessage(format, parameters), parameters), format,
+                                keys, values),
+                        thrown);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private Message newMessage(final String message, final Object[] parameters) {
+        return (parameters == null || parameters.length == 0) ? this.messageFactory.newMessage(message)
+                : Log4j2BoundedMessage.of(this.messageFactory.newMessage(message, parameters), parameters);
+    }
+
     private static org.apache.logging.log4j.Level translate(final Level level) {
         if (level == Level.TRACE) {
             return org.apache.logging.log4j.Level.TRACE;
@@ -18,7 +18,9 @@
 
 package org.jboss.logging;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.logging.log4j.ThreadContext;
@@ -29,7 +31,7 @@ import org.apache.logging.log4j.ThreadContext;
  * This binds to the Log4j 2 API and does not require a specific implementation of the Log4j 2 API.
  * </p>
  */
-public final class Log4j2LoggerProvider implements LoggerProvider {
+public final class Log4j2LoggerProvider implements BuiltInLoggerProvider {
 
     @Override
     public Log4j2Logger getLogger(String name) {
@@ -50,6 +52,60 @@ public final class Log4j2LoggerProvider implements LoggerProvider {
         }
     }
 
+    @Override
+    public Object putMdcAll(final String[] keys, final Object[] values) {
+        // The immutable context is not copied and is not modified by later puts
+        final Map<String, String> previous = ThreadContext.getImmutableContext();
+        final Map<String, String> puts = new HashMap<>();
+        List<String> removals = null;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] == null) {
+                if (removals == null) {
+                    removals = new ArrayList<>();
+                }
+                removals.add(keys[i]);
+                puts.remove(keys[i]);
+            } else {
+                puts.put(keys[i], String.valueOf(values[i]));
+                if (removals != null) {
+                    removals.remove(keys[i]);
+                }
+            }
+        }
+        if (!puts.isEmpty()) {
+            ThreadContext.putAll(puts);
+        }
+        if (removals != null) {
+            ThreadContext.removeAll(removals);
+        }
+        return previous;
+    }
+
+    @Override
+    public void restoreMdc(final String[] keys, final Object state) {
+        @SuppressWarnings("unchecked")
+        final Map<String, String> previous = (Map<String, String>) state;
+        Map<String, String> puts = null;
+        final List<String> removals = new ArrayList<>(keys.length);
+        for (String key : keys) {
+            final String value = previous.get(key);
+            if (value == null) {
+                removals.add(key);
+            } else {
+                if (puts == null) {
+                    puts = new HashMap<>();
+                }
+                puts.put(key, value);
+            }
+        }
+        if (puts != null) {
+            ThreadContext.putAll(puts);
+        }
+        if (!removals.isEmpty()) {
+            ThreadContext.removeAll(removals);
+        }
+    }
+
     @Override
     public Object getMdc(String key) {
         return ThreadContext.get(key);
@@ -65,6 +121,35 @@ public final class Log4j2LoggerProvider implements LoggerProvider {
         return new HashMap<>(ThreadContext.getImmutableContext());
     }
 
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Map<String, Object> getMdcSnapshot() {
+        // The immutable context is a view of the copy-on-write state of the context, the entries are not copied
+        return (Map) ThreadContext.getImmutableContext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restoreMdcState(final Object state) {
+        ThreadContext.clearMap();
+        ThreadContext.putAll((Map<String, String>) state);
+    }
+
+    @Override
+    public Object captureNdcState() {
+        return ThreadContext.getImmutableStack();
+    }
+
+    @Override
+    public void restoreNdcState(final Object state) {
+        final ThreadContext.ContextStack stack = (ThreadContext.ContextStack) state;
+        ThreadContext.clearStack();
+        // setStack() ignores an empty stack, so the stack is cleared first
+        if (!stack.isEmpty()) {
+            ThreadContext.setStack(stack);
+        }
+    }
+
     @Override
     public void clearNdc() {
         ThreadContext.clearStack();
@@ -18,7 +18,7 @@
 
 package org.jboss.logging;
 
-import java.text.MessageFormat;
+import org.apache.log4j.spi.LoggingEvent;
 
 final class Log4jLogger extends Logger {
 
@@ -33,7 +33,8 @@ final class Log4jLogger extends Logger {
 
     public boolean isEnabled(final Level level) {
         final org.apache.log4j.Level l = translate(level);
-        return logger.isEnabledFor(l) && l.isGreaterOrEqual(logger.getEffectiveLevel());
+        return isAllowed(level) && (LevelOverride.isForced(level, getName())
+                || (logger.isEnabledFor(l) && l.isGreaterOrEqual(logger.getEffectiveLevel())));
     }
 
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
@@ -41,8 +42,16 @@ final class Log4jLogger extends Logger {
         final org.apache.log4j.Level translatedLevel = translate(level);
         if (logger.isEnabledFor(translatedLevel))
             try {
+                MDCKey.publish();
                 logger.log(loggerClassName, translatedLevel, parameters == null || parameters.length == 0 ? message
-                        : MessageFormat.format(String.valueOf(message), parameters), thrown);
+                        : DeferredMessage.messageFormat(String.valueOf(message), parameters), thrown);
+            } catch (Throwable ignored) {
+            }
+        else if (LevelOverride.isForced(level, getName()))
+            try {
+                MDCKey.publish();
+                callAppenders(loggerClassName, translatedLevel, parameters == null || parameters.length == 0 ? message
+                        : DeferredMessage.messageFormat(String.valueOf(message), parameters), thrown);
             } catch (Throwable ignored) {
             }
     }
@@ -52,10 +61,24 @@ final class Log4jLogger extends Logger {
         final org.apache.log4j.Level translatedLevel = translate(level);
         if (logger.isEnabledFor(translatedLevel))
             try {
+                MDCKey.publish();
                 logger.log(loggerClassName, translatedLevel,
-                        parameters == null ? String.format(format) : String.format(format, parameters), thrown);
+                        DeferredMessage.printf(format, parameters), thrown);
             } catch (Throwable ignored) {
             }
+        else if (LevelOverride.isForced(level, getName()))
+            try {
+                MDCKey.publish();
+                callAppenders(loggerClassName, translatedLevel,
+                        DeferredMessage.printf(format, parameters), thrown);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    // Passes a message enabled by a level override to the appenders, which skips the level of the logger
+    private void callAppenders(final String loggerClassName, final org.apache.log4j.Level level, final Object message,
+            final Throwable thrown) {
+        logger.callAppenders(new LoggingEvent(loggerClassName, logger, level, message, thrown));
     }
 
     private static org.apache.log4j.Level translate(final Level level) {
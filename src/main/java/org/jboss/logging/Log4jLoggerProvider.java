@@ -20,6 +20,7 @@ package org.jboss.logging;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Stack;
 
 import org.apache.log4j.MDC;
 import org.apache.log4j.NDC;
@@ -30,7 +31,7 @@ import org.apache.log4j.NDC;
  * Please note that log4j reached end of life on August 5, 2015. Prefer using a log manager and provider.
  * </p>
  */
-public final class Log4jLoggerProvider implements LoggerProvider {
+public final class Log4jLoggerProvider implements BuiltInLoggerProvider {
 
     @Override
     public Logger getLogger(final String name) {
@@ -98,6 +99,20 @@ public final class Log4jLoggerProvider implements LoggerProvider {
         NDC.push(message);
     }
 
+    @Override
+    public Object captureNdcState() {
+        return NDC.cloneStack();
+    }
+
+    @Override
+    public void restoreNdcState(final Object state) {
+        NDC.remove();
+        if (state != null) {
+            // The stack is modified by later pushes, so the captured stack is not inherited directly
+            NDC.inherit((Stack<?>) ((Stack<?>) state).clone());
+        }
+    }
+
     @Override
     public void setNdcMaxDepth(int maxDepth) {
         NDC.setMaxDepth(maxDepth);
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A builder of a message with key-value fields, returned by {@link Logger#atInfo()} and the other {@code at} methods of a
+ * logger:
+ *
+ * <pre>
+ * LOGGER.atInfo().kv("orderId", id).kv("latencyMs", ms).log("Order processed");
+ * </pre>
+ * <p>
+ * When the level is disabled the builder does nothing. Otherwise the builder is reused by the thread, so it must be used
+ * by the thread which created it and must not be used once the message has been logged.
+ * </p>
+ * <p>
+ * The fields are attached to the message in the same way as the fields of a {@linkplain Logger#with(String, Object) child
+ * logger}.
+ * </p>
+ */
+public interface LogBuilder {
+
+    /**
+     * Adds a field to the message. A field with the same key replaces the field of the logger, if any.
+     *
+     * @param key   the key of the field
+     * @param value the value of the field, a {@code null} value omits the field
+     *
+     * @return this builder
+     */
+    LogBuilder kv(String key, Object value);
+
+    /**
+     * Sets the exception which caused the message.
+     *
+     * @param cause the exception
+     *
+     * @return this builder
+     */
+    LogBuilder cause(Throwable cause);
+
+    /**
+     * Logs the message.
+     *
+     * @param message the message
+     */
+    void log(Object message);
+
+    /**
+     * Logs the message using {@link java.text.MessageFormat}-style formatting.
+     *
+     * @param format the message format string
+     * @param params the parameters
+     */
+    void logv(String format, Object... params);
+
+    /**
+     * Logs the message using {@link java.util.Formatter}-style formatting.
+     *
+     * @param format the format string as per {@link String#format(String, Object...)} or resource bundle key therefor
+     * @param params the parameters
+     */
+    void logf(String format, Object... params);
+}
@@ -0,0 +1,384 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable message logged by a logger of a {@link LogEventProvider}. The event holds everything the logger was given,
+ * unformatted, together with a snapshot of the {@linkplain LoggingContext diagnostic contexts} of the thread which logged
+ * it, so the event can be filtered, counted, queued or written by any thread. The snapshot is taken when the event is
+ * queued for the {@linkplain AsyncDispatcher asynchronous dispatcher} or buffered by a sampled request, otherwise when it is
+ * first
+ * {@linkplain #getContext() requested} on the thread which logged the event.
+ * <p>
+ * The parameters are copied when the event is created. The parameters themselves are not copied, so they should not be
+ * modified after they have been logged.
+ * </p>
+ */
+public final class LogEvent {
+
+    /**
+     * The formatting style of the message of an event.
+     */
+    public enum FormatStyle {
+        /**
+         * The message is not formatted.
+         */
+        NO_FORMAT,
+        /**
+         * The message is a {@link java.text.MessageFormat} pattern.
+         */
+        MESSAGE_FORMAT,
+        /**
+         * The message is a {@link java.util.Formatter} format string.
+         */
+        PRINTF,
+    }
+
+    // The event the current thread writes for the thread which logged it, read by the bridges of the log managers
+    private static final ThreadLocal<LogEvent> ORIGIN = new ThreadLocal<>();
+    // Set once an event has been written by another thread, so the thread local is not read before
+    private static volatile boolean crossThread;
+
+    private final LogEventProvider provider;
+    private final Logger logger;
+    private final Logger.Level level;
+    private final String loggerClassName;
+    private final FormatStyle formatStyle;
+    private final Object message;
+    private final Object[] parameters;
+    private final Throwable thrown;
+    private final String[] keys;
+    private final Object[] values;
+    // Captured when the event is created if it is queued, otherwise when first requested by the logging thread
+    private LoggingContext context;
+    private final Instant instant;
+    private final long nanoTime;
+    private final long threadId;
+    private final String threadName;
+    // Rendered when first requested, a race only renders the same values twice
+    private String formatted;
+    private Map<String, Object> fields;
+
+    LogEvent(final LogEventProvider provider, final Logger logger, final Logger.Level level, final String loggerClassName,
+            final FormatStyle formatStyle,
+            final Object message, final Object[] parameters, final Throwable thrown, final String[] keys,
+            final Object[] values, final boolean captureContext) {
+        this.provider = provider;
+        this.logger = logger;
+        this.level = level;
+        this.loggerClassName = loggerClassName;
+        this.formatStyle = formatStyle;
+        this.message = message;
+        this.parameters = parameters == null ? null : parameters.clone();
+        this.thrown = thrown;
+        this.keys = keys;
+        this.values = values;
+        if (captureContext) {
+            context = LoggingContext.capture();
+        }
+        instant = Instant.now();
+        nanoTime = System.nanoTime();
+        final Thread thread = Thread.currentThread();
+        threadId = thread.getId();
+        threadName = thread.getName();
+    }
+
+    /**
+     * Returns the name of the logger which logged the event.
+     *
+     * @return the logger name
+     */
+    public String getLoggerName() {
+        return logger.getName();
+    }
+
+    /**
+     * Returns the level of the event.
+     *
+     * @return the level
+     */
+    public Logger.Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the name of the class the caller of the logger is found above of.
+     *
+     * @return the logger class name
+     */
+    public String getLoggerClassName() {
+        return loggerClassName;
+    }
+
+    /**
+     * Returns how the {@linkplain #getMessage() message} is formatted with the {@linkplain #getParameters() parameters}.
+     *
+     * @return the format style
+     */
+    public FormatStyle getFormatStyle() {
+        return formatStyle;
+    }
+
+    /**
+     * Returns the unformatted message, which is the pattern or format string unless the message is
+     * {@linkplain FormatStyle#NO_FORMAT not formatted}.
+     *
+     * @return the message, may be {@code null}
+     */
+    public Object getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns a copy of the parameters of the message.
+     *
+     * @return the parameters or {@code null} if the message has none
+     */
+    public Object[] getParameters() {
+        return parameters == null ? null : parameters.clone();
+    }
+
+    /**
+     * Returns the exception which was logged with the message.
+     *
+     * @return the exception or {@code null}
+     */
+    public Throwable getThrown() {
+        return thrown;
+    }
+
+    /**
+     * Returns the fields {@linkplain Logger#with(String, Object) bound} to the logger or
+     * {@linkplain Logger#at(Logger.Level) added} to the message, in the order they were added.
+     *
+     * @return an unmodifiable map of the fields
+     */
+    public Map<String, Object> getFields() {
+        Map<String, Object> fields = this.fields;
+        if (fields == null) {
+            if (keys == null) {
+                fields = Collections.emptyMap();
+            } else {
+                final Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    map.put(keys[i], values[i]);
+                }
+                fields = Collections.unmodifiableMap(map);
+            }
+            this.fields = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the diagnostic contexts of the thread which logged the event, as they were when it was logged. Unless the
+     * event was queued for the asynchronous dispatcher, the contexts are captured when this method is first called by
+     * the thread which logged the event, so a provider which passes the event to another thread calls it first.
+     *
+     * @return the context or {@code null} if it was not captured before the event was passed to another thread
+     */
+    public LoggingContext getContext() {
+        LoggingContext context = this.context;
+        if (context == null && Thread.currentThread().getId() == threadId) {
+            context = LoggingContext.capture();
+            this.context = context;
+        }
+        return context;
+    }
+
+    /**
+     * Returns the time when the event was logged.
+     *
+     * @return the time of the event
+     */
+    public Instant getInstant() {
+        return instant;
+    }
+
+    /**
+     * Returns the value of {@link System#nanoTime()} when the event was logged.
+     *
+     * @return the time of the event in nanoseconds
+     */
+    public long getNanoTime() {
+        return nanoTime;
+    }
+
+    /**
+     * Returns the id of the thread which logged the event.
+     *
+     * @return the thread id
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * Returns the name of the thread which logged the event.
+     *
+     * @return the thread name
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns the message formatted with the parameters. The message is formatted when this method is first called.
+     *
+     * @return the formatted message
+     *
+     * @throws IllegalArgumentException if the message cannot be formatted with the parameters
+     */
+    public String getFormattedMessage() {
+        String formatted = this.formatted;
+        if (formatted == null) {
+            if (formatStyle == FormatStyle.PRINTF) {
+                formatted = DeferredMessage.format(DeferredMessage.Style.PRINTF, String.valueOf(message), parameters);
+            } else if (formatStyle == FormatStyle.MESSAGE_FORMAT) {
+                formatted = DeferredMessage.format(DeferredMessage.Style.MESSAGE_FORMAT, String.valueOf(message),
+                        parameters);
+            } else {
+                formatted = String.valueOf(message);
+            }
+            this.formatted = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Writes the event to the log manager with the logger of the provider it was logged to. When the event is written by
+     * a thread other than the one which logged it, the {@linkplain #getContext() context} of the event is restored while
+     * it is written.
+     * <p>
+     * The records of the JBoss Log Manager and {@code java.util.logging} written by another thread carry the
+     * {@linkplain #getInstant() time} and the thread of the event, and an unknown caller since the caller is not on the
+     * stack of the writing thread. The other log managers take the time and thread of the thread which writes the event,
+     * so the {@linkplain AsyncDispatcher asynchronous dispatcher} writes their messages on the logging thread.
+     * </p>
+     */
+    public void emit() {
+        if (Thread.currentThread().getId() == threadId) {
+            if (crossThread && ORIGIN.get() != null) {
+                // A message logged while another event is written, for example by a handler, has no origin
+                write(null);
+            } else {
+                write();
+            }
+        } else {
+            if (!crossThread) {
+                crossThread = true;
+            }
+            final LoggingContext context = this.context;
+            if (context == null) {
+                write(this);
+            } else {
+                try (LoggingContext.Scope ignored = context.restore()) {
+                    write(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the event the current thread writes for the thread which logged it. The bridges of the log managers apply
+     * the time and thread of the event to the records they create.
+     *
+     * @return the event or {@code null} if the current thread writes its own message
+     */
+    static LogEvent origin() {
+        return crossThread ? ORIGIN.get() : null;
+    }
+
+    /**
+     * Writes the event with the {@linkplain #getContext() context} of the event restored, even on the thread which
+     * logged it.
+     *
+     * @param prefix the text written before the message, which must not contain format characters
+     */
+    void replay(final String prefix) {
+        try (LoggingContext.Scope ignored = getContext().restore()) {
+            ForwardingLogger.write(logger, level, loggerClassName, formatStyle == FormatStyle.PRINTF, prefix + message,
+                    parameters, thrown, keys, values);
+        }
+    }
+
+    /**
+     * Returns the provider the event is passed to.
+     *
+     * @return the provider or {@code null} if the event is written to the log manager directly
+     */
+    LogEventProvider provider() {
+        return provider;
+    }
+
+    /**
+     * Passes the event to its provider, or writes it to the log manager if it has none.
+     */
+    void dispatch() {
+        if (provider == null) {
+            emit();
+        } else {
+            provider.log(this);
+        }
+    }
+
+    /**
+     * Returns the format style of a message logged with {@code doLog} or {@code doLogf}.
+     *
+     * @param printf     {@code true} if the message was logged with {@code doLogf}
+     * @param parameters the parameters or {@code null}
+     *
+     * @return the format style
+     */
+    static FormatStyle formatStyle(final boolean printf, final Object[] parameters) {
+        if (printf) {
+            return FormatStyle.PRINTF;
+        }
+        return parameters == null || parameters.length == 0 ? FormatStyle.NO_FORMAT : FormatStyle.MESSAGE_FORMAT;
+    }
+
+    private void write(final LogEvent origin) {
+        final LogEvent previous = ORIGIN.get();
+        ORIGIN.set(origin);
+        try {
+            write();
+        } finally {
+            if (previous == null) {
+                ORIGIN.remove();
+            } else {
+                ORIGIN.set(previous);
+            }
+        }
+    }
+
+    private void write() {
+        ForwardingLogger.write(logger, level, loggerClassName, formatStyle == FormatStyle.PRINTF, message, parameters,
+                thrown, keys, values);
+    }
+
+    @Override
+    public String toString() {
+        return "LogEvent[" + level + ' ' + getLoggerName() + ": " + getFormattedMessage() + ']';
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.List;
+
+/**
+ * A {@linkplain LoggerProvider provider} which receives the messages logged by its loggers as {@linkplain LogEvent events}.
+ * <p>
+ * The loggers returned by {@link Logger#getLogger(String)} for the provider check the level with the logger returned by
+ * {@link #getLogger(String)}. Each enabled message is then passed to {@link #log(LogEvent)} instead of the logger, so the
+ * provider is the single place to filter, count, batch or asynchronously dispatch the messages of every log manager. An
+ * event is written to the log manager with {@link LogEvent#emit()}:
+ * </p>
+ *
+ * <pre>
+ * class CountingProvider extends AbstractMdcLoggerProvider implements LogEventProvider {
+ *     private final LoggerProvider loggers = new JDKLoggerProvider();
+ *     private final LongAdder count = new LongAdder();
+ *
+ *     &#64;Override
+ *     public Logger getLogger(final String name) {
+ *         return loggers.getLogger(name);
+ *     }
+ *
+ *     &#64;Override
+ *     public void log(final LogEvent event) {
+ *         count.increment();
+ *         event.emit();
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * {@code AbstractMdcLoggerProvider} provides the MDC and NDC of the example and is only visible in this package, a
+ * provider of another package implements them itself or delegates them to a built-in provider.
+ * </p>
+ * <p>
+ * If the {@code org.jboss.logging.provider.async} system property is set, the events are passed to
+ * {@link #logAll(List)} in batches by the thread of the asynchronous dispatcher.
+ * </p>
+ * <p>
+ * The {@linkplain LogEvent#getContext() diagnostic contexts} of an event are captured when it is queued for the
+ * asynchronous dispatcher, otherwise when they are first requested on the thread which logged it. A provider which
+ * passes events to another thread requests them before it does.
+ * </p>
+ */
+public interface LogEventProvider extends LoggerProvider {
+
+    /**
+     * Receives an event logged by a logger of this provider. The event is only passed if the level of the event is
+     * enabled. Discarding the event discards the message.
+     *
+     * @param event the event
+     */
+    void log(LogEvent event);
+
+    /**
+     * Receives a batch of events, in the order they were logged. The default implementation passes each event to
+     * {@link #log(LogEvent)}.
+     *
+     * @param events the events
+     */
+    default void logAll(final List<LogEvent> events) {
+        for (LogEvent event : events) {
+            log(event);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
 import java.security.PrivilegedAction;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * An abstracted logging entry point.
@@ -37,6 +38,19 @@ public abstract class Logger implements Serializable, BasicLogger {
 
     private static final String FQCN = Logger.class.getName();
 
+    /**
+     * The name of the system property which sets the minimum level of all loggers.
+     */
+    static final String MIN_LEVEL_KEY = "org.jboss.logging.min-level";
+
+    // The minimum level is read once, the JIT compiler folds the constants and removes the code of disabled levels
+    private static final int MIN_LEVEL = minLevel();
+    private static final boolean ERROR_ALLOWED = MIN_LEVEL >= Level.ERROR.ordinal();
+    private static final boolean WARN_ALLOWED = MIN_LEVEL >= Level.WARN.ordinal();
+    private static final boolean INFO_ALLOWED = MIN_LEVEL >= Level.INFO.ordinal();
+    private static final boolean DEBUG_ALLOWED = MIN_LEVEL >= Level.DEBUG.ordinal();
+    private static final boolean TRACE_ALLOWED = MIN_LEVEL >= Level.TRACE.ordinal();
+
     /**
      * Levels used by this logging API.
      */
@@ -69,6 +83,55 @@ public abstract class Logger implements Serializable, BasicLogger {
         return name;
     }
 
+    /**
+     * Checks whether the level is at or above the minimum level set with the {@code org.jboss.logging.min-level} system
+     * property. Unlike the level of a log manager the minimum level cannot be lowered at run time, messages below it are
+     * never logged.
+     *
+     * @param level the level to check
+     *
+     * @return {@code true} if messages at the level may be logged, {@code false} if they are always discarded
+     */
+    static boolean isAllowed(final Level level) {
+        return TRACE_ALLOWED || level == null || level.ordinal() <= MIN_LEVEL;
+    }
+
+    /**
+     * Checks whether the log methods of this logger pass a message logged at the level to {@code doLog} or
+     * {@code doLogf}. This is the case when the level is {@linkplain #isEnabled(Level) enabled}, unless a wrapper acts on
+     * the messages the log manager does not write, while {@link #isEnabled(Level)} keeps reporting the level of the log
+     * manager to the code which guards its messages.
+     *
+     * @param level the level to check
+     *
+     * @return {@code true} if the log methods pass the message on
+     */
+    boolean isLoggable(final Level level) {
+        return isEnabled(level);
+    }
+
+    /**
+     * Checks whether this logger writes the time and thread of the {@linkplain LogEvent#origin() event} a thread writes
+     * for the thread which logged it. The messages of the loggers which do not are never written by another thread.
+     *
+     * @return {@code true} if the records of this logger carry the time and thread of the event
+     */
+    boolean writesOrigin() {
+        return false;
+    }
+
+    private static int minLevel() {
+        final String value = SecurityActions.getSystemProperty(MIN_LEVEL_KEY);
+        if (value != null) {
+            try {
+                return Level.valueOf(value.trim().toUpperCase(Locale.ROOT)).ordinal();
+            } catch (IllegalArgumentException ignore) {
+                // an unknown level does not restrict the levels
+            }
+        }
+        return Level.TRACE.ordinal();
+    }
+
     /**
      * Implementation log method (standard parameter formatting).
      *
@@ -91,13 +154,240 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     protected abstract void doLogf(Level level, String loggerClassName, String format, Object[] parameters, Throwable thrown);
 
+    /**
+     * Implementation log method (standard parameter formatting) for a message with bound fields. Loggers which can attach
+     * fields to a single message override this method, by default the fields are put onto the {@linkplain MDC mapped
+     * diagnostic context} while the message is logged.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param message         the message to log
+     * @param parameters      the parameters of the message
+     * @param thrown          the exception which was thrown, if any
+     * @param keys            the keys of the fields
+     * @param values          the values of the fields, a {@code null} value omits the field
+     *
+     * @see #with(String, Object)
+     */
+    void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        if (isEnabled(level)) {
+            try (MDC.Scope ignored = new MDC.Scope(keys, values)) {
+                doLog(level, loggerClassName, message, parameters, thrown);
+            }
+        }
+    }
+
+    /**
+     * Implementation log method (printf formatting) for a message with bound fields.
+     *
+     * @param level           the level
+     * @param loggerClassName the logger class name
+     * @param format          the format string to log
+     * @param parameters      the parameters of the message
+     * @param thrown          the exception which was thrown, if any
+     * @param keys            the keys of the fields
+     * @param values          the values of the fields, a {@code null} value omits the field
+     *
+     * @see #doLog(Level, String, Object, Object[], Throwable, String[], Object[])
+     */
+    void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        if (isEnabled(level)) {
+            try (MDC.Scope ignored = new MDC.Scope(keys, values)) {
+                doLogf(level, loggerClassName, format, parameters, thrown);
+            }
+        }
+    }
+
+    /**
+     * Returns a child logger which adds the field to each message it logs. The child logger has the same name and level
+     * as this logger.
+     * <p>
+     * Unlike an entry of the {@linkplain MDC mapped diagnostic context} the field is bound to the logger rather than the
+     * thread, so the child logger can be passed to other threads. Where the log manager supports it the field is attached
+     * to the message only: as a {@code StringMapMessage} with log4j2, as a key-value pair with SLF4J 2 and as an MDC entry
+     * of the log record with the JBoss Log Manager. With other log managers the field is put onto the mapped diagnostic
+     * context while the message is logged.
+     * </p>
+     * <p>
+     * A field with the same key as a field of this logger replaces it. A serialized child logger is deserialized as the
+     * logger of its category, without the fields.
+     * </p>
+     *
+     * @param key   the key of the field
+     * @param value the value of the field, a {@code null} value omits the field
+     *
+     * @return the child logger
+     */
+    public Logger with(final String key, final Object value) {
+        return BoundLogger.bind(this, new String[] { key }, new Object[] { value });
+    }
+
+    /**
+     * Returns a child logger which adds the fields to each message it logs.
+     *
+     * @param key1   the key of the first field
+     * @param value1 the value of the first field
+     * @param key2   the key of the second field
+     * @param value2 the value of the second field
+     *
+     * @return the child logger
+     *
+     * @see #with(String, Object)
+     */
+    public Logger with(final String key1, final Object value1, final String key2, final Object value2) {
+        return BoundLogger.bind(this, new String[] { key1, key2 }, new Object[] { value1, value2 });
+    }
+
+    /**
+     * Returns a child logger which adds the fields to each message it logs.
+     *
+     * @param key1   the key of the first field
+     * @param value1 the value of the first field
+     * @param key2   the key of the second field
+     * @param value2 the value of the second field
+     * @param key3   the key of the third field
+     * @param value3 the value of the third field
+     *
+     * @return the child logger
+     *
+     * @see #with(String, Object)
+     */
+    public Logger with(final String key1, final Object value1, final String key2, final Object value2, final String key3,
+            final Object value3) {
+        return BoundLogger.bind(this, new String[] { key1, key2, key3 }, new Object[] { value1, value2, value3 });
+    }
+
+    /**
+     * Returns a child logger which adds the fields to each message it logs.
+     *
+     * @param fields the fields
+     *
+     * @return the child logger
+     *
+     * @see #with(String, Object)
+     */
+    public Logger with(final Map<String, ?> fields) {
+        final String[] keys = new String[fields.size()];
+        final Object[] values = new Object[keys.length];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : fields.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return BoundLogger.bind(this, keys, values);
+    }
+
+    /**
+     * Returns a view of this logger which logs at most the given number of messages per second. Messages above the rate
+     * are dropped, and the number of dropped messages is logged, at the most severe level of the dropped messages, with
+     * the first message logged after the limit is refilled. The limit is refilled when that message is logged rather
+     * than by a timer, so the number of messages dropped in the last second before the logger goes quiet is not logged
+     * until the logger logs again. The permits are taken without locking, and only by messages which are enabled.
+     * <p>
+     * Each view has its own limit, so a view is usually kept in a field for a call site or a group of messages. The view
+     * is a {@code Logger}, so it can be passed to the constructor of a message logger extending
+     * {@link DelegatingBasicLogger}, such as the generated {@code $logger} implementations. {@link BasicLogger} itself has
+     * no {@code rateLimited} method. The loggers of a category, including the message loggers returned by
+     * {@link #getMessageLogger(Lookup, Class, String)}, can also be limited with the
+     * {@code org.jboss.logging.rate-limit} system property, for example {@code org.acme.client=100,org.acme.db=10}.
+     * </p>
+     *
+     * @param perSecond the maximum number of messages per second
+     *
+     * @return the rate limited logger
+     */
+    public Logger rateLimited(final int perSecond) {
+        return new RateLimitedLogger(getName(), this, new TokenBucket(perSecond));
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the given level.
+     *
+     * @param level the level
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder at(final Level level) {
+        return isAllowed(level) && isLoggable(level) ? ReusableLogBuilder.get(this, level) : ReusableLogBuilder.NOOP;
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the {@code TRACE} level.
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder atTrace() {
+        return TRACE_ALLOWED && isLoggable(Level.TRACE) ? ReusableLogBuilder.get(this, Level.TRACE) : ReusableLogBuilder.NOOP;
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the {@code DEBUG} level.
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder atDebug() {
+        return DEBUG_ALLOWED && isLoggable(Level.DEBUG) ? ReusableLogBuilder.get(this, Level.DEBUG) : ReusableLogBuilder.NOOP;
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the {@code INFO} level.
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder atInfo() {
+        return INFO_ALLOWED && isLoggable(Level.INFO) ? ReusableLogBuilder.get(this, Level.INFO) : ReusableLogBuilder.NOOP;
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the {@code WARN} level.
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder atWarn() {
+        return WARN_ALLOWED && isLoggable(Level.WARN) ? ReusableLogBuilder.get(this, Level.WARN) : ReusableLogBuilder.NOOP;
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the {@code ERROR} level.
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder atError() {
+        return ERROR_ALLOWED && isLoggable(Level.ERROR) ? ReusableLogBuilder.get(this, Level.ERROR) : ReusableLogBuilder.NOOP;
+    }
+
+    /**
+     * Returns a builder of a message with key-value fields at the {@code FATAL} level.
+     *
+     * @return the builder, which does nothing if the level is not enabled
+     *
+     * @see LogBuilder
+     */
+    public LogBuilder atFatal() {
+        return isLoggable(Level.FATAL) ? ReusableLogBuilder.get(this, Level.FATAL) : ReusableLogBuilder.NOOP;
+    }
+
     /**
      * Check to see if the {@code TRACE} level is enabled for this logger.
      *
      * @return {@code true} if messages logged at {@link Level#TRACE} may be accepted, {@code false} otherwise
      */
     public boolean isTraceEnabled() {
-        return isEnabled(Level.TRACE);
+        return TRACE_ALLOWED && isEnabled(Level.TRACE);
     }
 
     /**
@@ -106,7 +396,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void trace(Object message) {
-        doLog(Level.TRACE, FQCN, message, null, null);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, FQCN, message, null, null);
+        }
     }
 
     /**
@@ -116,7 +408,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void trace(Object message, Throwable t) {
-        doLog(Level.TRACE, FQCN, message, null, t);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, FQCN, message, null, t);
+        }
     }
 
     /**
@@ -127,7 +421,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void trace(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.TRACE, loggerFqcn, message, null, t);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, loggerFqcn, message, null, t);
+        }
     }
 
     /**
@@ -139,7 +435,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void trace(Object message, Object[] params) {
-        doLog(Level.TRACE, FQCN, message, params, null);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, FQCN, message, params, null);
+        }
     }
 
     /**
@@ -152,7 +450,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void trace(Object message, Object[] params, Throwable t) {
-        doLog(Level.TRACE, FQCN, message, params, t);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, FQCN, message, params, t);
+        }
     }
 
     /**
@@ -164,7 +464,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void trace(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.TRACE, loggerFqcn, message, params, t);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, loggerFqcn, message, params, t);
+        }
     }
 
     /**
@@ -174,7 +476,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void tracev(String format, Object... params) {
-        doLog(Level.TRACE, FQCN, format, params, null);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -184,7 +488,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void tracev(String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLog(Level.TRACE, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -197,7 +501,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void tracev(String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -211,7 +515,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void tracev(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -224,7 +528,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void tracev(Throwable t, String format, Object... params) {
-        doLog(Level.TRACE, FQCN, format, params, t);
+        if (TRACE_ALLOWED) {
+            doLog(Level.TRACE, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -235,7 +541,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void tracev(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLog(Level.TRACE, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -249,7 +555,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void tracev(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -264,7 +570,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void tracev(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLog(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -276,7 +582,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void tracef(String format, Object... params) {
-        doLogf(Level.TRACE, FQCN, format, params, null);
+        if (TRACE_ALLOWED) {
+            doLogf(Level.TRACE, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -286,7 +594,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void tracef(String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -299,7 +607,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void tracef(String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -313,7 +621,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void tracef(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -326,7 +634,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void tracef(Throwable t, String format, Object... params) {
-        doLogf(Level.TRACE, FQCN, format, params, t);
+        if (TRACE_ALLOWED) {
+            doLogf(Level.TRACE, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -337,7 +647,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void tracef(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -351,7 +661,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void tracef(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -366,151 +676,151 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void tracef(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
 
     public void tracef(final String format, final int arg) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, null);
         }
     }
 
     public void tracef(final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void tracef(final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void tracef(final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void tracef(final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void tracef(final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void tracef(final Throwable t, final String format, final int arg) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void tracef(final String format, final long arg) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, null);
         }
     }
 
     public void tracef(final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void tracef(final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void tracef(final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void tracef(final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void tracef(final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void tracef(final Throwable t, final String format, final long arg) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void tracef(final Throwable t, final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.TRACE)) {
+        if (TRACE_ALLOWED && isLoggable(Level.TRACE)) {
             doLogf(Level.TRACE, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
@@ -521,7 +831,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @return {@code true} if messages logged at {@link Level#DEBUG} may be accepted, {@code false} otherwise
      */
     public boolean isDebugEnabled() {
-        return isEnabled(Level.DEBUG);
+        return DEBUG_ALLOWED && isEnabled(Level.DEBUG);
     }
 
     /**
@@ -530,7 +840,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void debug(Object message) {
-        doLog(Level.DEBUG, FQCN, message, null, null);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, FQCN, message, null, null);
+        }
     }
 
     /**
@@ -540,7 +852,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void debug(Object message, Throwable t) {
-        doLog(Level.DEBUG, FQCN, message, null, t);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, FQCN, message, null, t);
+        }
     }
 
     /**
@@ -551,7 +865,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void debug(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.DEBUG, loggerFqcn, message, null, t);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, loggerFqcn, message, null, t);
+        }
     }
 
     /**
@@ -563,7 +879,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void debug(Object message, Object[] params) {
-        doLog(Level.DEBUG, FQCN, message, params, null);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, FQCN, message, params, null);
+        }
     }
 
     /**
@@ -576,7 +894,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void debug(Object message, Object[] params, Throwable t) {
-        doLog(Level.DEBUG, FQCN, message, params, t);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, FQCN, message, params, t);
+        }
     }
 
     /**
@@ -588,7 +908,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void debug(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.DEBUG, loggerFqcn, message, params, t);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, loggerFqcn, message, params, t);
+        }
     }
 
     /**
@@ -598,7 +920,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void debugv(String format, Object... params) {
-        doLog(Level.DEBUG, FQCN, format, params, null);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -608,7 +932,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void debugv(String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLog(Level.DEBUG, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -621,7 +945,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void debugv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -635,7 +959,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void debugv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -648,7 +972,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void debugv(Throwable t, String format, Object... params) {
-        doLog(Level.DEBUG, FQCN, format, params, t);
+        if (DEBUG_ALLOWED) {
+            doLog(Level.DEBUG, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -659,7 +985,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void debugv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLog(Level.DEBUG, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -673,7 +999,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void debugv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -688,7 +1014,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void debugv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLog(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -700,7 +1026,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void debugf(String format, Object... params) {
-        doLogf(Level.DEBUG, FQCN, format, params, null);
+        if (DEBUG_ALLOWED) {
+            doLogf(Level.DEBUG, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -710,7 +1038,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void debugf(String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -723,7 +1051,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void debugf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -737,7 +1065,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void debugf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -750,7 +1078,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void debugf(Throwable t, String format, Object... params) {
-        doLogf(Level.DEBUG, FQCN, format, params, t);
+        if (DEBUG_ALLOWED) {
+            doLogf(Level.DEBUG, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -761,7 +1091,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void debugf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -775,7 +1105,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void debugf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -790,151 +1120,151 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void debugf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
 
     public void debugf(final String format, final int arg) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, null);
         }
     }
 
     public void debugf(final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void debugf(final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void debugf(final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void debugf(final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void debugf(final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void debugf(final Throwable t, final String format, final int arg) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final int arg1, final int arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final int arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final int arg1, final int arg2, final int arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final int arg1, final int arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final int arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void debugf(final String format, final long arg) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, null);
         }
     }
 
     public void debugf(final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void debugf(final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, null);
         }
     }
 
     public void debugf(final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void debugf(final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void debugf(final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, null);
         }
     }
 
     public void debugf(final Throwable t, final String format, final long arg) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final long arg1, final long arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final long arg1, final Object arg2) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final long arg1, final long arg2, final long arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final long arg1, final long arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
 
     public void debugf(final Throwable t, final String format, final long arg1, final Object arg2, final Object arg3) {
-        if (isEnabled(Level.DEBUG)) {
+        if (DEBUG_ALLOWED && isLoggable(Level.DEBUG)) {
             doLogf(Level.DEBUG, FQCN, format, new Object[] { arg1, arg2, arg3 }, t);
         }
     }
@@ -945,7 +1275,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @return {@code true} if messages logged at {@link Level#INFO} may be accepted, {@code false} otherwise
      */
     public boolean isInfoEnabled() {
-        return isEnabled(Level.INFO);
+        return INFO_ALLOWED && isEnabled(Level.INFO);
     }
 
     /**
@@ -954,7 +1284,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void info(Object message) {
-        doLog(Level.INFO, FQCN, message, null, null);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, FQCN, message, null, null);
+        }
     }
 
     /**
@@ -964,7 +1296,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void info(Object message, Throwable t) {
-        doLog(Level.INFO, FQCN, message, null, t);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, FQCN, message, null, t);
+        }
     }
 
     /**
@@ -975,7 +1309,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void info(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.INFO, loggerFqcn, message, null, t);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, loggerFqcn, message, null, t);
+        }
     }
 
     /**
@@ -987,7 +1323,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void info(Object message, Object[] params) {
-        doLog(Level.INFO, FQCN, message, params, null);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, FQCN, message, params, null);
+        }
     }
 
     /**
@@ -1000,7 +1338,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void info(Object message, Object[] params, Throwable t) {
-        doLog(Level.INFO, FQCN, message, params, t);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, FQCN, message, params, t);
+        }
     }
 
     /**
@@ -1012,7 +1352,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void info(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.INFO, loggerFqcn, message, params, t);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, loggerFqcn, message, params, t);
+        }
     }
 
     /**
@@ -1022,7 +1364,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void infov(String format, Object... params) {
-        doLog(Level.INFO, FQCN, format, params, null);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -1032,7 +1376,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void infov(String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLog(Level.INFO, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1045,7 +1389,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void infov(String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLog(Level.INFO, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1059,7 +1403,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void infov(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1072,7 +1416,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void infov(Throwable t, String format, Object... params) {
-        doLog(Level.INFO, FQCN, format, params, t);
+        if (INFO_ALLOWED) {
+            doLog(Level.INFO, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -1083,7 +1429,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void infov(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLog(Level.INFO, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1097,7 +1443,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void infov(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLog(Level.INFO, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1112,7 +1458,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void infov(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLog(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1124,7 +1470,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void infof(String format, Object... params) {
-        doLogf(Level.INFO, FQCN, format, params, null);
+        if (INFO_ALLOWED) {
+            doLogf(Level.INFO, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -1134,7 +1482,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void infof(String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLogf(Level.INFO, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1147,7 +1495,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void infof(String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1161,7 +1509,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void infof(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1174,7 +1522,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void infof(Throwable t, String format, Object... params) {
-        doLogf(Level.INFO, FQCN, format, params, t);
+        if (INFO_ALLOWED) {
+            doLogf(Level.INFO, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -1185,7 +1535,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void infof(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLogf(Level.INFO, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1199,7 +1549,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void infof(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1214,7 +1564,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void infof(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.INFO)) {
+        if (INFO_ALLOWED && isLoggable(Level.INFO)) {
             doLogf(Level.INFO, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1225,7 +1575,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void warn(Object message) {
-        doLog(Level.WARN, FQCN, message, null, null);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, FQCN, message, null, null);
+        }
     }
 
     /**
@@ -1235,7 +1587,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void warn(Object message, Throwable t) {
-        doLog(Level.WARN, FQCN, message, null, t);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, FQCN, message, null, t);
+        }
     }
 
     /**
@@ -1246,7 +1600,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void warn(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.WARN, loggerFqcn, message, null, t);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, loggerFqcn, message, null, t);
+        }
     }
 
     /**
@@ -1258,7 +1614,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void warn(Object message, Object[] params) {
-        doLog(Level.WARN, FQCN, message, params, null);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, FQCN, message, params, null);
+        }
     }
 
     /**
@@ -1271,7 +1629,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void warn(Object message, Object[] params, Throwable t) {
-        doLog(Level.WARN, FQCN, message, params, t);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, FQCN, message, params, t);
+        }
     }
 
     /**
@@ -1283,7 +1643,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void warn(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.WARN, loggerFqcn, message, params, t);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, loggerFqcn, message, params, t);
+        }
     }
 
     /**
@@ -1293,7 +1655,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void warnv(String format, Object... params) {
-        doLog(Level.WARN, FQCN, format, params, null);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -1303,7 +1667,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void warnv(String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLog(Level.WARN, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1316,7 +1680,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void warnv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLog(Level.WARN, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1330,7 +1694,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void warnv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1343,7 +1707,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void warnv(Throwable t, String format, Object... params) {
-        doLog(Level.WARN, FQCN, format, params, t);
+        if (WARN_ALLOWED) {
+            doLog(Level.WARN, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -1354,7 +1720,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void warnv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLog(Level.WARN, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1368,7 +1734,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void warnv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLog(Level.WARN, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1383,7 +1749,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void warnv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLog(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1395,7 +1761,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void warnf(String format, Object... params) {
-        doLogf(Level.WARN, FQCN, format, params, null);
+        if (WARN_ALLOWED) {
+            doLogf(Level.WARN, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -1405,7 +1773,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void warnf(String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLogf(Level.WARN, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1418,7 +1786,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void warnf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1432,7 +1800,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void warnf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1445,7 +1813,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void warnf(Throwable t, String format, Object... params) {
-        doLogf(Level.WARN, FQCN, format, params, t);
+        if (WARN_ALLOWED) {
+            doLogf(Level.WARN, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -1456,7 +1826,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void warnf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLogf(Level.WARN, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1470,7 +1840,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void warnf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1485,7 +1855,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void warnf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.WARN)) {
+        if (WARN_ALLOWED && isLoggable(Level.WARN)) {
             doLogf(Level.WARN, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1496,7 +1866,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void error(Object message) {
-        doLog(Level.ERROR, FQCN, message, null, null);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, FQCN, message, null, null);
+        }
     }
 
     /**
@@ -1506,7 +1878,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void error(Object message, Throwable t) {
-        doLog(Level.ERROR, FQCN, message, null, t);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, FQCN, message, null, t);
+        }
     }
 
     /**
@@ -1517,7 +1891,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void error(String loggerFqcn, Object message, Throwable t) {
-        doLog(Level.ERROR, loggerFqcn, message, null, t);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, loggerFqcn, message, null, t);
+        }
     }
 
     /**
@@ -1529,7 +1905,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void error(Object message, Object[] params) {
-        doLog(Level.ERROR, FQCN, message, params, null);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, FQCN, message, params, null);
+        }
     }
 
     /**
@@ -1542,7 +1920,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void error(Object message, Object[] params, Throwable t) {
-        doLog(Level.ERROR, FQCN, message, params, t);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, FQCN, message, params, t);
+        }
     }
 
     /**
@@ -1554,7 +1934,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void error(String loggerFqcn, Object message, Object[] params, Throwable t) {
-        doLog(Level.ERROR, loggerFqcn, message, params, t);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, loggerFqcn, message, params, t);
+        }
     }
 
     /**
@@ -1564,7 +1946,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void errorv(String format, Object... params) {
-        doLog(Level.ERROR, FQCN, format, params, null);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -1574,7 +1958,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void errorv(String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLog(Level.ERROR, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1587,7 +1971,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void errorv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1601,7 +1985,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void errorv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1614,7 +1998,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void errorv(Throwable t, String format, Object... params) {
-        doLog(Level.ERROR, FQCN, format, params, t);
+        if (ERROR_ALLOWED) {
+            doLog(Level.ERROR, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -1625,7 +2011,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void errorv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLog(Level.ERROR, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1639,7 +2025,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void errorv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1654,7 +2040,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void errorv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLog(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1666,7 +2052,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void errorf(String format, Object... params) {
-        doLogf(Level.ERROR, FQCN, format, params, null);
+        if (ERROR_ALLOWED) {
+            doLogf(Level.ERROR, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -1676,7 +2064,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void errorf(String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLogf(Level.ERROR, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1689,7 +2077,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void errorf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1703,7 +2091,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void errorf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1716,7 +2104,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void errorf(Throwable t, String format, Object... params) {
-        doLogf(Level.ERROR, FQCN, format, params, t);
+        if (ERROR_ALLOWED) {
+            doLogf(Level.ERROR, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -1727,7 +2117,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void errorf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLogf(Level.ERROR, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1741,7 +2131,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void errorf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1756,7 +2146,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void errorf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.ERROR)) {
+        if (ERROR_ALLOWED && isLoggable(Level.ERROR)) {
             doLogf(Level.ERROR, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1845,7 +2235,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void fatalv(String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLog(Level.FATAL, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1858,7 +2248,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void fatalv(String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1872,7 +2262,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void fatalv(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1896,7 +2286,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void fatalv(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLog(Level.FATAL, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -1910,7 +2300,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void fatalv(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -1925,7 +2315,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void fatalv(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLog(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -1947,7 +2337,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void fatalf(String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLogf(Level.FATAL, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -1960,7 +2350,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void fatalf(String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -1974,7 +2364,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void fatalf(String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -1998,7 +2388,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void fatalf(Throwable t, String format, Object param1) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLogf(Level.FATAL, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -2012,7 +2402,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void fatalf(Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -2027,7 +2417,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void fatalf(Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(Level.FATAL)) {
+        if (isLoggable(Level.FATAL)) {
             doLogf(Level.FATAL, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -2039,7 +2429,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param message the message
      */
     public void log(Level level, Object message) {
-        doLog(level, FQCN, message, null, null);
+        if (isAllowed(level)) {
+            doLog(level, FQCN, message, null, null);
+        }
     }
 
     /**
@@ -2050,7 +2442,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t       the throwable
      */
     public void log(Level level, Object message, Throwable t) {
-        doLog(level, FQCN, message, null, t);
+        if (isAllowed(level)) {
+            doLog(level, FQCN, message, null, t);
+        }
     }
 
     /**
@@ -2062,7 +2456,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void log(Level level, String loggerFqcn, Object message, Throwable t) {
-        doLog(level, loggerFqcn, message, null, t);
+        if (isAllowed(level)) {
+            doLog(level, loggerFqcn, message, null, t);
+        }
     }
 
     /**
@@ -2075,7 +2471,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void log(Level level, Object message, Object[] params) {
-        doLog(level, FQCN, message, params, null);
+        if (isAllowed(level)) {
+            doLog(level, FQCN, message, params, null);
+        }
     }
 
     /**
@@ -2089,7 +2487,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      */
     @Deprecated
     public void log(Level level, Object message, Object[] params, Throwable t) {
-        doLog(level, FQCN, message, params, t);
+        if (isAllowed(level)) {
+            doLog(level, FQCN, message, params, t);
+        }
     }
 
     /**
@@ -2102,7 +2502,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param t          the throwable
      */
     public void log(String loggerFqcn, Level level, Object message, Object[] params, Throwable t) {
-        doLog(level, loggerFqcn, message, params, t);
+        if (isAllowed(level)) {
+            doLog(level, loggerFqcn, message, params, t);
+        }
     }
 
     /**
@@ -2113,7 +2515,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void logv(Level level, String format, Object... params) {
-        doLog(level, FQCN, format, params, null);
+        if (isAllowed(level)) {
+            doLog(level, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -2124,7 +2528,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void logv(Level level, String format, Object param1) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -2138,7 +2542,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void logv(Level level, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -2153,7 +2557,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void logv(Level level, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -2167,7 +2571,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void logv(Level level, Throwable t, String format, Object... params) {
-        doLog(level, FQCN, format, params, t);
+        if (isAllowed(level)) {
+            doLog(level, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -2179,7 +2585,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void logv(Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -2194,7 +2600,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void logv(Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -2210,7 +2616,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void logv(Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -2225,7 +2631,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params     the parameters
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object... params) {
-        doLog(level, loggerFqcn, format, params, t);
+        if (isAllowed(level)) {
+            doLog(level, loggerFqcn, format, params, t);
+        }
     }
 
     /**
@@ -2238,7 +2646,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1     the sole parameter
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, loggerFqcn, format, new Object[] { param1 }, t);
         }
     }
@@ -2254,7 +2662,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2     the second parameter
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, loggerFqcn, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -2271,7 +2679,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3     the third parameter
      */
     public void logv(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLog(level, loggerFqcn, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -2284,7 +2692,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void logf(Level level, String format, Object... params) {
-        doLogf(level, FQCN, format, params, null);
+        if (isAllowed(level)) {
+            doLogf(level, FQCN, format, params, null);
+        }
     }
 
     /**
@@ -2295,7 +2705,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void logf(Level level, String format, Object param1) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, FQCN, format, new Object[] { param1 }, null);
         }
     }
@@ -2309,7 +2719,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void logf(Level level, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, FQCN, format, new Object[] { param1, param2 }, null);
         }
     }
@@ -2324,7 +2734,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void logf(Level level, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, FQCN, format, new Object[] { param1, param2, param3 }, null);
         }
     }
@@ -2338,7 +2748,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params the parameters
      */
     public void logf(Level level, Throwable t, String format, Object... params) {
-        doLogf(level, FQCN, format, params, t);
+        if (isAllowed(level)) {
+            doLogf(level, FQCN, format, params, t);
+        }
     }
 
     /**
@@ -2350,7 +2762,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1 the sole parameter
      */
     public void logf(Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, FQCN, format, new Object[] { param1 }, t);
         }
     }
@@ -2365,7 +2777,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2 the second parameter
      */
     public void logf(Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, FQCN, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -2381,7 +2793,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3 the third parameter
      */
     public void logf(Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, FQCN, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -2396,7 +2808,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param1     the sole parameter
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, loggerFqcn, format, new Object[] { param1 }, t);
         }
     }
@@ -2412,7 +2824,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param2     the second parameter
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, loggerFqcn, format, new Object[] { param1, param2 }, t);
         }
     }
@@ -2429,7 +2841,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param param3     the third parameter
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object param1, Object param2, Object param3) {
-        if (isEnabled(level)) {
+        if (isAllowed(level) && isLoggable(level)) {
             doLogf(level, loggerFqcn, format, new Object[] { param1, param2, param3 }, t);
         }
     }
@@ -2444,7 +2856,9 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @param params     the message parameters
      */
     public void logf(String loggerFqcn, Level level, Throwable t, String format, Object... params) {
-        doLogf(level, loggerFqcn, format, params, t);
+        if (isAllowed(level)) {
+            doLogf(level, loggerFqcn, format, params, t);
+        }
     }
 
     /**
@@ -2464,7 +2878,7 @@ public abstract class Logger implements Serializable, BasicLogger {
      * @return the logger
      */
     public static Logger getLogger(String name) {
-        return LoggerProviders.PROVIDER.getLogger(name);
+        return LoggerProviders.getLogger(name);
     }
 
     /**
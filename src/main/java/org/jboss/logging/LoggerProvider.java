@@ -18,13 +18,46 @@
 
 package org.jboss.logging;
 
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.util.Collections;
 import java.util.Map;
 
 /**
  * A contract for the log provider implementation.
+ * <p>
+ * Implementations may be registered as a {@linkplain java.util.ServiceLoader service}. When more than one provider is
+ * registered, the provider with the highest {@linkplain Priority priority} is used. Only the selected provider is
+ * instantiated.
+ * </p>
  */
 public interface LoggerProvider {
+
+    /**
+     * Declares the priority of a {@linkplain LoggerProvider provider} registered as a service. Providers with a higher
+     * value are preferred. Providers which are not annotated have a priority of {@code 0}. Providers with the same
+     * priority are tried in the order they are found by the {@link java.util.ServiceLoader}.
+     * <p>
+     * The priority is read from the provider type without initializing it, so providers which are not selected are
+     * never instantiated or statically initialized.
+     * </p>
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @interface Priority {
+
+        /**
+         * The priority of the provider.
+         *
+         * @return the priority
+         */
+        int value();
+    }
+
     /**
      * Returns a logger which is backed by a logger from the log provider.
      *
@@ -18,21 +18,192 @@
 
 package org.jboss.logging;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 import java.util.logging.LogManager;
 
-final class LoggerProviders {
+/**
+ * Holds the {@linkplain LoggerProvider provider} used by {@link Logger}, {@link MDC} and {@link NDC}.
+ * <p>
+ * The provider is discovered once when this class is initialized. It can be replaced at run time, for example when a
+ * container switches the log manager or after a checkpoint is restored, with {@link #setProvider(LoggerProvider)} or
+ * {@link #reset()}.
+ * </p>
+ * <p>
+ * The current provider is held by a {@link MutableCallSite} which the JIT compiler treats as a constant. Reading the
+ * provider costs the same as reading a {@code static final} field until the provider is replaced. Replacing the
+ * provider invalidates the compiled code which depends on it.
+ * </p>
+ * <p>
+ * Loggers already created by the previous provider continue to log to it unless the
+ * {@code org.jboss.logging.provider.switchable} system property is set to {@code true}. In that case the loggers
+ * returned by {@link Logger#getLogger(String)} follow the current provider. This adds an identity check to each log
+ * method call.
+ * </p>
+ */
+public final class LoggerProviders {
     static final String LOGGING_PROVIDER_KEY = "org.jboss.logging.provider";
+    static final String SWITCHABLE_KEY = "org.jboss.logging.provider.switchable";
+
+    private static final boolean SWITCHABLE = Boolean.parseBoolean(SecurityActions.getSystemProperty(SWITCHABLE_KEY));
+    private static final MutableCallSite PROVIDER_SITE = new MutableCallSite(
+            MethodHandles.constant(LoggerProvider.class, find()));
+    private static final MethodHandle PROVIDER = PROVIDER_SITE.dynamicInvoker();
+
+    /**
+     * Returns the current provider.
+     *
+     * @return the current provider
+     */
+    public static LoggerProvider getProvider() {
+        try {
+            return (LoggerProvider) PROVIDER.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * Replaces the current provider.
+     * <p>
+     * Values set on the message and nested diagnostics contexts of the previous provider are not copied to the new
+     * provider.
+     * </p>
+     * <p>
+     * This method is meant to be called rarely, for example once when a container starts or a checkpoint is restored.
+     * Each call invalidates every compiled method which read the provider, including the methods of {@link MDC} and
+     * {@link NDC} inlined into application code. Those methods run in the interpreter until they are compiled again, and
+     * {@link MutableCallSite#syncAll(MutableCallSite[])} waits for all threads to reach a safepoint.
+     * </p>
+     *
+     * @param provider the new provider
+     */
+    public static void setProvider(final LoggerProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("The provider cannot be null");
+        }
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new RuntimePermission("org.jboss.logging.setProvider"));
+        }
+        PROVIDER_SITE.setTarget(MethodHandles.constant(LoggerProvider.class, provider));
+        MutableCallSite.syncAll(new MutableCallSite[] { PROVIDER_SITE });
+    }
+
+    /**
+     * Discovers the provider again and makes it the current provider. The discovery is done the same way it is done
+     * when this class is initialized. Like {@link #setProvider(LoggerProvider)}, this invalidates the compiled code which
+     * read the provider.
+     *
+     * @return the new current provider
+     */
+    public static LoggerProvider reset() {
+        final LoggerProvider provider = find();
+        setProvider(provider);
+        return provider;
+    }
 
-    static final LoggerProvider PROVIDER = find();
+    /**
+     * Writes the summaries of the messages suppressed as duplicates, then waits until the messages queued for
+     * asynchronous logging before this method was called have been written. Does nothing if neither duplicate
+     * suppression nor asynchronous logging is enabled.
+     * <p>
+     * The summaries and the queue are also written by shutdown hooks, but the JVM runs the shutdown hooks in no particular
+     * order, so the log manager may already be stopped when they run. Containers which stop the log manager should call
+     * this method before they do.
+     * </p>
+     */
+    public static void flush() {
+        DeduplicatingLogger.flush();
+        final AsyncDispatcher dispatcher = AsyncDispatcher.INSTANCE;
+        if (dispatcher != null) {
+            dispatcher.flush();
+        }
+    }
+
+    static Logger getLogger(final String name) {
+        final LoggerProvider provider = getProvider();
+        final Logger logger = getLogger(provider, name);
+        return SWITCHABLE ? new SwitchableLogger(name, provider, logger) : logger;
+    }
+
+    /**
+     * Returns the logger of the provider. The logger of a {@link LogEventProvider} passes the messages it logs to the
+     * provider. If the {@linkplain AsyncDispatcher asynchronous dispatcher} is enabled, the messages of the loggers which
+     * {@linkplain Logger#writesOrigin() write the time and thread} of the messages are written by its thread. If
+     * {@linkplain BoundingLogger bounding} is enabled, the parameters are rendered within
+     * limits. If {@linkplain TrimmingLogger trimming} is enabled, the stack traces of exceptions are trimmed. If
+     * {@linkplain FingerprintingLogger fingerprinting} is enabled, the stack traces of repeated exceptions are replaced
+     * with a reference. If the {@linkplain BacktraceLogger backtrace} is enabled, the debug messages which are not enabled
+     * are buffered until an error is logged. If {@linkplain SampledRequest sampling} is enabled, the messages of open
+     * requests are buffered until the request completes. Loggers of a category with a
+     * {@linkplain RateLimitedLogger rate limit} drop the messages above the rate. If
+     * {@linkplain DeduplicatingLogger deduplication} is enabled, the repeats of a message are counted instead of written.
+     * If {@linkplain GovernedLogger shedding} is enabled, the less severe messages are discarded while the rate of the
+     * logged messages is above the budget.
+     *
+     * @param provider the provider
+     * @param name     the name of the logger
+     *
+     * @return the logger
+     */
+    static Logger getLogger(final LoggerProvider provider, final String name) {
+        Logger logger = provider.getLogger(name);
+        if (provider instanceof LogEventProvider) {
+            logger = new EventLogger(name, (LogEventProvider) provider, logger);
+        } else if (AsyncDispatcher.INSTANCE != null && logger.writesOrigin()) {
+            logger = new EventLogger(name, null, logger);
+        }
+        if (BoundingLogger.BOUNDS != null) {
+            logger = new BoundingLogger(name, logger);
+        }
+        if (TrimmingLogger.TRIMMER != null) {
+            logger = new TrimmingLogger(name, logger);
+        }
+        if (FingerprintingLogger.WINDOW != 0) {
+            logger = new FingerprintingLogger(name, logger);
+        }
+        if (SampledRequest.KEY != null) {
+            logger = new SamplingLogger(name, logger);
+        }
+        if (BacktraceLogger.SIZE != 0) {
+            logger = new BacktraceLogger(name, logger);
+        }
+        logger = RateLimitedLogger.forCategory(name, logger);
+        if (DeduplicatingLogger.WINDOW != 0) {
+            // Repeats are suppressed before they take a permit of the rate limit
+            logger = new DeduplicatingLogger(name, logger);
+        }
+        if (GovernedLogger.GOVERNOR != null) {
+            logger = new GovernedLogger(name, logger);
+        }
+        return logger;
+    }
 
     private static LoggerProvider find() {
+        // In a native image built with the NativeImageFeature the provider was already selected at build time. The
+        // factory is a constant in the image, so the discovery below and the providers not selected are not reachable.
+        final Supplier<LoggerProvider> buildTimeFactory = BuildTimeLoggerProvider.FACTORY;
+        if (buildTimeFactory != null) {
+            final LoggerProvider provider = buildTimeFactory.get();
+            logProvider(provider, "native image build");
+            return provider;
+        }
         return findProvider();
     }
 
-    private static LoggerProvider findProvider() {
+    static LoggerProvider findProvider() {
         // Since the impl classes refer to the back-end frameworks directly, if this classloader can't find the target
         // log classes, then it doesn't really matter if they're possibly available from the TCCL because we won't be
         // able to find it anyway
@@ -60,12 +231,21 @@ final class LoggerProviders {
         // Next try for a service provider
         try {
             final ServiceLoader<LoggerProvider> loader = ServiceLoader.load(LoggerProvider.class, cl);
-            final Iterator<LoggerProvider> iter = loader.iterator();
+            // Only the provider types are loaded here, the provider itself is not instantiated until selected
+            final List<ServiceLoader.Provider<LoggerProvider>> candidates = new ArrayList<>();
+            final Iterator<ServiceLoader.Provider<LoggerProvider>> iter = loader.stream().iterator();
             for (;;)
                 try {
                     if (!iter.hasNext())
                         break;
-                    LoggerProvider provider = iter.next();
+                    candidates.add(iter.next());
+                } catch (ServiceConfigurationError ignore) {
+                }
+            // The sort is stable so providers with the same priority keep the service loader order
+            candidates.sort(Comparator.comparingInt(LoggerProviders::getPriority).reversed());
+            for (ServiceLoader.Provider<LoggerProvider> candidate : candidates)
+                try {
+                    final LoggerProvider provider = candidate.get();
                     // Attempt to get a logger, if it fails keep trying
                     logProvider(provider, "service loader");
                     return provider;
@@ -155,6 +335,11 @@ final class LoggerProviders {
         throw new IllegalStateException();
     }
 
+    static int getPriority(final ServiceLoader.Provider<LoggerProvider> provider) {
+        final LoggerProvider.Priority priority = provider.type().getAnnotation(LoggerProvider.Priority.class);
+        return priority == null ? 0 : priority.value();
+    }
+
     private static void logProvider(final LoggerProvider provider, final String via) {
         // Log a debug message indicating which logger we are using
         final Logger logger = provider.getLogger("org.jboss.logging");
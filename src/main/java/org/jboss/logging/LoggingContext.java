@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * An immutable snapshot of the {@linkplain MDC mapped} and {@linkplain NDC nested} diagnostic contexts of a thread, and
+ * of its {@linkplain LevelOverride level override}.
+ * <p>
+ * The snapshot is used to carry the context of a thread to tasks executed by other threads:
+ * </p>
+ *
+ * <pre>
+ * final LoggingContext context = LoggingContext.capture();
+ * executor.execute(context.wrap(() -&gt; LOGGER.info("Logged with the context of the submitting thread")));
+ *
+ * final Executor propagating = LoggingContext.wrap(executor);
+ * CompletableFuture.supplyAsync(this::load, propagating).thenAcceptAsync(this::store, propagating);
+ * </pre>
+ * <p>
+ * The context is captured and restored with the native operations of the log manager, which for most log managers
+ * means the context is not copied when it is captured.
+ * </p>
+ */
+public final class LoggingContext {
+
+    private final LoggerProvider provider;
+    private final Object mdc;
+    private final Object ndc;
+    private final Object[] mdcKeys;
+    private final LevelOverride levelOverride;
+
+    private LoggingContext(final LoggerProvider provider, final Object mdc, final Object ndc, final Object[] mdcKeys,
+            final LevelOverride levelOverride) {
+        this.provider = provider;
+        this.mdc = mdc;
+        this.ndc = ndc;
+        this.mdcKeys = mdcKeys;
+        this.levelOverride = levelOverride;
+    }
+
+    /**
+     * Captures the diagnostic contexts of the current thread.
+     *
+     * @return the captured context
+     */
+    public static LoggingContext capture() {
+        MDCKey.publish();
+        final LoggerProvider provider = LoggerProviders.getProvider();
+        final Object[] mdcKeys = MDCKey.capture();
+        final LevelOverride levelOverride = LevelOverride.current();
+        if (provider instanceof BuiltInLoggerProvider) {
+            final BuiltInLoggerProvider builtIn = (BuiltInLoggerProvider) provider;
+            return new LoggingContext(provider, builtIn.captureMdcState(), builtIn.captureNdcState(), mdcKeys,
+                    levelOverride);
+        }
+        return new LoggingContext(provider, BuiltInLoggerProvider.copyMdc(provider),
+                BuiltInLoggerProvider.copyNdcState(provider), mdcKeys, levelOverride);
+    }
+
+    /**
+     * Returns an executor which executes each task with the context of the thread which submitted it.
+     *
+     * @param executor the executor to execute the tasks
+     *
+     * @return the executor
+     */
+    public static Executor wrap(final Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor cannot be null");
+        }
+        return task -> executor.execute(capture().wrap(task));
+    }
+
+    /**
+     * Replaces the diagnostic contexts of the current thread with this context until the returned scope is closed.
+     *
+     * @return the scope which restores the previous context when closed, it must be closed on the same thread
+     */
+    public Scope restore() {
+        final LoggingContext previous = capture();
+        apply();
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns a task which runs the given task with this context.
+     *
+     * @param task the task
+     *
+     * @return the task which restores this context
+     */
+    public Runnable wrap(final Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("The task cannot be null");
+        }
+        return () -> {
+            try (Scope ignored = restore()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Returns a task which calls the given task with this context.
+     *
+     * @param task the task
+     * @param <V>  the result type of the task
+     *
+     * @return the task which restores this context
+     */
+    public <V> Callable<V> wrap(final Callable<V> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("The task cannot be null");
+        }
+        return () -> {
+            try (Scope ignored = restore()) {
+                return task.call();
+            }
+        };
+    }
+
+    private void apply() {
+        if (provider instanceof BuiltInLoggerProvider) {
+            final BuiltInLoggerProvider builtIn = (BuiltInLoggerProvider) provider;
+            builtIn.restoreMdcState(mdc);
+            builtIn.restoreNdcState(ndc);
+        } else {
+            BuiltInLoggerProvider.putMdcState(provider, mdc);
+            BuiltInLoggerProvider.pushNdcState(provider, ndc);
+        }
+        MDCKey.restore(mdcKeys);
+        LevelOverride.set(levelOverride);
+    }
+
+    /**
+     * A context restored with {@link #restore()}. Closing the scope restores the context the thread had before.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final LoggingContext previous;
+        private boolean closed;
+
+        private Scope(final LoggingContext previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Restores the previous context. Closing the scope more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                previous.apply();
+            }
+        }
+    }
+}
@@ -20,9 +20,13 @@ package org.jboss.logging;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Mapped diagnostic context. Each log provider implementation may behave different.
+ * <p>
+ * Entries which are set frequently can be set with an {@link MDCKey}, which avoids the map lookups of this class.
+ * </p>
  */
 public final class MDC {
 
@@ -38,7 +42,30 @@ public final class MDC {
      * @return the previous value set or {@code null} if no value was set
      */
     public static Object put(String key, Object val) {
-        return LoggerProviders.PROVIDER.putMdc(key, val);
+        MDCKey.publish(key);
+        final Object previous = LoggerProviders.getProvider().putMdc(key, val);
+        MDCKey.published(key, val);
+        return previous;
+    }
+
+    /**
+     * Puts a value onto the context which is computed when it is first needed: when a message is logged, or when the
+     * value or the context is read with this class. The supplier is invoked at most once, messages which are not logged
+     * because of their level do not invoke it.
+     * <p>
+     * Providers which are not part of this library receive the computed value immediately.
+     * </p>
+     * <p>
+     * Each key passed to this method is registered for the lifetime of the class loader. At most 256 keys are
+     * registered this way; values put for other keys after that are computed immediately. Keys which vary, such as keys
+     * containing an id, should not be used with this method.
+     * </p>
+     *
+     * @param key      the key for the value
+     * @param supplier the supplier of the value, which may return {@code null}
+     */
+    public static void putLazy(String key, Supplier<?> supplier) {
+        MDCKey.putLazy(key, supplier);
     }
 
     /**
@@ -49,7 +76,8 @@ public final class MDC {
      * @return the value or {@code null} if not found
      */
     public static Object get(String key) {
-        return LoggerProviders.PROVIDER.getMdc(key);
+        MDCKey.publish(key);
+        return LoggerProviders.getProvider().getMdc(key);
     }
 
     /**
@@ -58,7 +86,9 @@ public final class MDC {
      * @param key the key of the value to remove
      */
     public static void remove(String key) {
-        LoggerProviders.PROVIDER.removeMdc(key);
+        MDCKey.publish(key);
+        LoggerProviders.getProvider().removeMdc(key);
+        MDCKey.published(key, null);
     }
 
     /**
@@ -72,13 +102,188 @@ public final class MDC {
      * null}
      */
     public static Map<String, Object> getMap() {
-        return LoggerProviders.PROVIDER.getMdcMap();
+        MDCKey.publish();
+        return LoggerProviders.getProvider().getMdcMap();
+    }
+
+    /**
+     * Returns an immutable snapshot of the context. Later changes to the context are not reflected in the snapshot.
+     * <p>
+     * Unlike {@link #getMap()}, the snapshot is not copied where the log manager keeps an immutable copy of its context,
+     * which makes it suitable for passing the context to another thread.
+     * </p>
+     *
+     * @return the snapshot of the context
+     */
+    public static Map<String, Object> snapshot() {
+        MDCKey.publish();
+        final LoggerProvider provider = LoggerProviders.getProvider();
+        if (provider instanceof BuiltInLoggerProvider) {
+            return ((BuiltInLoggerProvider) provider).getMdcSnapshot();
+        }
+        return BuiltInLoggerProvider.copyMdc(provider);
+    }
+
+    /**
+     * Puts the entries onto the context until the returned scope is closed. When closed, the entries are restored to the
+     * values they had before. A {@code null} value removes the entry for the scope.
+     * <p>
+     * Where the log manager supports it, the entries are put and restored with a single operation.
+     * </p>
+     *
+     * <pre>
+     * try (MDC.Scope scope = MDC.scope(Map.of("requestId", requestId, "user", user))) {
+     *     // handle the request
+     * }
+     * </pre>
+     *
+     * @param entries the entries to put onto the context
+     *
+     * @return the scope which must be closed on the same thread
+     */
+    public static Scope scope(final Map<String, ?> entries) {
+        final String[] keys = new String[entries.size()];
+        final Object[] values = new Object[keys.length];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return new Scope(keys, values);
+    }
+
+    /**
+     * Puts the entry onto the context until the returned scope is closed.
+     *
+     * @param key the key of the entry
+     * @param val the value of the entry
+     *
+     * @return the scope which must be closed on the same thread
+     *
+     * @see #scope(Map)
+     */
+    public static Scope with(final String key, final Object val) {
+        return new Scope(new String[] { key }, new Object[] { val });
+    }
+
+    /**
+     * Puts the entries onto the context until the returned scope is closed.
+     *
+     * @param key1 the key of the first entry
+     * @param val1 the value of the first entry
+     * @param key2 the key of the second entry
+     * @param val2 the value of the second entry
+     *
+     * @return the scope which must be closed on the same thread
+     *
+     * @see #scope(Map)
+     */
+    public static Scope with(final String key1, final Object val1, final String key2, final Object val2) {
+        return new Scope(new String[] { key1, key2 }, new Object[] { val1, val2 });
+    }
+
+    /**
+     * Puts the entries onto the context until the returned scope is closed.
+     *
+     * @param key1 the key of the first entry
+     * @param val1 the value of the first entry
+     * @param key2 the key of the second entry
+     * @param val2 the value of the second entry
+     * @param key3 the key of the third entry
+     * @param val3 the value of the third entry
+     *
+     * @return the scope which must be closed on the same thread
+     *
+     * @see #scope(Map)
+     */
+    public static Scope with(final String key1, final Object val1, final String key2, final Object val2, final String key3,
+            final Object val3) {
+        return new Scope(new String[] { key1, key2, key3 }, new Object[] { val1, val2, val3 });
+    }
+
+    /**
+     * Puts the entries onto the context until the returned scope is closed.
+     *
+     * @param keysAndValues the keys and values of the entries, alternating
+     *
+     * @return the scope which must be closed on the same thread
+     *
+     * @throws IllegalArgumentException if the number of arguments is odd or a key is not a string
+     * @see #scope(Map)
+     */
+    public static Scope with(final Object... keysAndValues) {
+        if (keysAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Expected keys and values but got an odd number of arguments");
+        }
+        final String[] keys = new String[keysAndValues.length / 2];
+        final Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final Object key = keysAndValues[i * 2];
+            if (!(key instanceof String)) {
+                throw new IllegalArgumentException(String.format("Expected a string key at index %d but got %s", i * 2, key));
+            }
+            keys[i] = (String) key;
+            values[i] = keysAndValues[i * 2 + 1];
+        }
+        return new Scope(keys, values);
     }
 
     /**
      * Clears the message diagnostics context.
      */
     public static void clear() {
-        LoggerProviders.PROVIDER.clearMdc();
+        LoggerProviders.getProvider().clearMdc();
+        MDCKey.clear();
+    }
+
+    /**
+     * Entries put onto the context by {@link #scope(Map)} or {@code with()}. Closing the scope restores the entries to
+     * the values they had before the scope was created.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final LoggerProvider provider;
+        private final String[] keys;
+        private final Object state;
+        private final Object[] keyValues;
+        private boolean closed;
+
+        Scope(final String[] keys, final Object[] values) {
+            MDCKey.publish(keys);
+            this.provider = LoggerProviders.getProvider();
+            this.keys = keys;
+            this.keyValues = MDCKey.values(keys);
+            if (provider instanceof BuiltInLoggerProvider) {
+                state = ((BuiltInLoggerProvider) provider).putMdcAll(keys, values);
+            } else {
+                state = BuiltInLoggerProvider.putEach(provider, keys, values);
+            }
+            if (keyValues != null) {
+                for (int i = 0; i < keys.length; i++) {
+                    MDCKey.published(keys[i], values[i]);
+                }
+            }
+        }
+
+        /**
+         * Restores the entries of the context. Closing the scope more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            MDCKey.publish(keys);
+            if (provider instanceof BuiltInLoggerProvider) {
+                ((BuiltInLoggerProvider) provider).restoreMdc(keys, state);
+            } else {
+                BuiltInLoggerProvider.restoreEach(provider, keys, state);
+            }
+            if (keyValues != null) {
+                for (int i = 0; i < keys.length; i++) {
+                    MDCKey.published(keys[i], keyValues[i]);
+                }
+            }
+        }
     }
 }
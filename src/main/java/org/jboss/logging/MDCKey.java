@@ -0,0 +1,544 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A typed key of the {@linkplain MDC mapped diagnostic context}.
+ * <p>
+ * Each key is assigned an index when it is created. The values of the keys are stored in a per-thread array, so
+ * {@link #put(Object)}, {@link #get()} and {@link #remove()} do not hash the key or allocate. The values are written to
+ * the message diagnostics context of the log manager, under the {@linkplain #getName() name} of the key, when a message
+ * is logged or when the context is read with {@link MDC}.
+ * </p>
+ * <p>
+ * With the log managers supported by this library, the publication is lazy. Code which reads the context of the log
+ * manager directly, for example with {@code org.slf4j.MDC.get()} or Log4j 2's {@code ThreadContext.get()}, does not see
+ * a value set with a key, or its removal, until the current thread logs a message or reads the context with {@link MDC}.
+ * Calling {@link MDC#getMap()} publishes all the values of the current thread. With other providers the values are
+ * written immediately.
+ * </p>
+ * <p>
+ * Keys should be created once and kept in a constant:
+ * </p>
+ *
+ * <pre>
+ * private static final MDCKey&lt;String&gt; REQUEST_ID = MDCKey.of("requestId", String.class);
+ * </pre>
+ *
+ * @param <T> the type of the value
+ */
+public final class MDCKey<T> {
+
+    /**
+     * The maximum number of keys created for the names passed to {@link MDC#putLazy(String, Supplier)}. Keys are never
+     * removed, so the values of other names are computed immediately once the limit is reached.
+     */
+    static final int MAX_IMPLICIT_KEYS = 256;
+
+    private static final Object LOCK = new Object();
+    private static final ThreadLocal<Slots> SLOTS = new ThreadLocal<>();
+
+    // Copied on write, the index of a key is its position in the array
+    private static volatile MDCKey<?>[] keys = new MDCKey<?>[0];
+    private static volatile Map<String, MDCKey<?>> keysByName = new HashMap<>();
+    // Copied on write, one bit for each hash of the names of the keys, see isKeyName()
+    private static volatile long[] names = new long[16];
+    // Guarded by LOCK
+    private static int implicitKeys;
+
+    private final String name;
+    private final Class<T> type;
+    private final int index;
+    // Created for MDC.putLazy() and replaced by the first key created with of()
+    private final boolean implicit;
+
+    private MDCKey(final String name, final Class<T> type, final int index, final boolean implicit) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+        this.implicit = implicit;
+    }
+
+    /**
+     * Returns the key with the given name, creating it if it does not exist yet.
+     *
+     * @param name the name of the key in the message diagnostics context
+     * @param type the type of the value
+     * @param <T>  the type of the value
+     *
+     * @return the key
+     *
+     * @throws IllegalArgumentException if a key with the same name but a different type already exists
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MDCKey<T> of(final String name, final Class<T> type) {
+        if (name == null) {
+            throw new IllegalArgumentException("The name cannot be null");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("The type cannot be null");
+        }
+        synchronized (LOCK) {
+            final MDCKey<?> existing = keysByName.get(name);
+            if (existing != null) {
+                if (existing.implicit) {
+                    implicitKeys--;
+                    return register(new MDCKey<>(name, type, existing.index, false));
+                }
+                if (existing.type != type) {
+                    throw new IllegalArgumentException(String.format("The MDC key %s already exists with type %s", name,
+                            existing.type.getName()));
+                }
+                return (MDCKey<T>) existing;
+            }
+            return register(new MDCKey<>(name, type, keys.length, false));
+        }
+    }
+
+    /**
+     * Returns the key with the given name, creating an implicit key if it does not exist yet and the limit of implicit
+     * keys is not reached.
+     *
+     * @param name the name of the key
+     *
+     * @return the key or {@code null} if the limit is reached
+     */
+    private static MDCKey<?> forName(final String name) {
+        final MDCKey<?> key = keysByName.get(name);
+        if (key != null) {
+            return key;
+        }
+        synchronized (LOCK) {
+            final MDCKey<?> existing = keysByName.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            if (implicitKeys >= MAX_IMPLICIT_KEYS) {
+                return null;
+            }
+            implicitKeys++;
+            return register(new MDCKey<>(name, Object.class, keys.length, true));
+        }
+    }
+
+    private static <T> MDCKey<T> register(final MDCKey<T> key) {
+        assert Thread.holdsLock(LOCK);
+        final MDCKey<?>[] newKeys = Arrays.copyOf(keys, Math.max(keys.length, key.index + 1));
+        newKeys[key.index] = key;
+        final Map<String, MDCKey<?>> newKeysByName = new HashMap<>(keysByName);
+        newKeysByName.put(key.name, key);
+        final long[] newNames = names.clone();
+        final int hash = spread(key.name);
+        newNames[(hash >>> 6) & (newNames.length - 1)] |= 1L << hash;
+        names = newNames;
+        keysByName = newKeysByName;
+        keys = newKeys;
+        return key;
+    }
+
+    /**
+     * Returns {@code false} if the name is not the name of a key. The hash of a string is cached, so this is a field
+     * read and a bit test which lets {@link MDC} skip the lookup of the key, and the read of the values of the thread,
+     * for the names which are not keys. It may return {@code true} for a name which is not a key.
+     *
+     * @param name the name
+     *
+     * @return {@code false} if the name is not the name of a key
+     */
+    private static boolean isKeyName(final String name) {
+        if (name == null) {
+            return false;
+        }
+        final int hash = spread(name);
+        final long[] names = MDCKey.names;
+        return (names[(hash >>> 6) & (names.length - 1)] & 1L << hash) != 0;
+    }
+
+    private static int spread(final String name) {
+        final int hash = name.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the name of the key in the message diagnostics context.
+     *
+     * @return the name of the key
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type of the value.
+     *
+     * @return the type of the value
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the value for the current thread.
+     *
+     * @return the value or {@code null} if no value was set
+     */
+    public T get() {
+        final Slots slots = SLOTS.get();
+        return slots == null ? null : value(resolve(slots.get(index)));
+    }
+
+    /**
+     * Sets the value for the current thread. A {@code null} value removes the value.
+     *
+     * @param value the value
+     *
+     * @return the previous value or {@code null} if no value was set
+     */
+    public T put(final T value) {
+        final Slots slots = slots();
+        final T previous = value(resolve(slots.set(index, type.cast(value))));
+        publishIfNeeded(slots);
+        return previous;
+    }
+
+    /**
+     * Sets a value for the current thread which is computed when it is first needed: when a message is logged, when the
+     * value is read or when the context is read with {@link MDC}. The supplier is invoked at most once.
+     *
+     * @param supplier the supplier of the value, which may return {@code null}
+     */
+    public void putLazy(final Supplier<? extends T> supplier) {
+        putLazy(this, supplier);
+    }
+
+    /**
+     * Removes the value for the current thread.
+     */
+    public void remove() {
+        final Slots slots = SLOTS.get();
+        if (slots != null) {
+            slots.set(index, null);
+            publishIfNeeded(slots);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MDCKey[" + name + ", " + type.getName() + "]";
+    }
+
+    /**
+     * Sets a value which is computed when it is first needed.
+     *
+     * @param name     the name of the entry
+     * @param supplier the supplier of the value
+     *
+     * @see MDC#putLazy(String, Supplier)
+     */
+    static void putLazy(final String name, final Supplier<?> supplier) {
+        final MDCKey<?> key = forName(name);
+        if (key != null) {
+            putLazy(key, supplier);
+        } else if (supplier == null) {
+            throw new IllegalArgumentException("The supplier cannot be null");
+        } else {
+            MDC.put(name, supplier.get());
+        }
+    }
+
+    private static void putLazy(final MDCKey<?> key, final Supplier<?> supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException("The supplier cannot be null");
+        }
+        final Slots slots = slots();
+        slots.set(key.index, new LazyValue(supplier));
+        publishIfNeeded(slots);
+    }
+
+    private static Object resolve(final Object value) {
+        return value instanceof LazyValue ? ((LazyValue) value).get() : value;
+    }
+
+    private T value(final Object value) {
+        // The value may have been set with MDC.put() using a different type
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Writes the values which changed since they were last published to the message diagnostics context of the current
+     * provider. Called by the loggers of the {@linkplain BuiltInLoggerProvider built-in providers} before a message is
+     * logged and by {@link MDC} before the context is read.
+     */
+    static void publish() {
+        if (keys.length != 0) {
+            final Slots slots = SLOTS.get();
+            if (slots != null && slots.dirty) {
+                slots.publish(LoggerProviders.getProvider());
+            }
+        }
+    }
+
+    /**
+     * Publishes the value of the key with the given name, if it changed. Unlike {@link #publish(String...)} this does not
+     * allocate, it is called for each {@link MDC#put(String, Object)}, {@link MDC#get(String)} and
+     * {@link MDC#remove(String)}.
+     *
+     * @param name the name of the entry
+     */
+    static void publish(final String name) {
+        if (isKeyName(name)) {
+            final Slots slots = SLOTS.get();
+            if (slots != null && slots.dirty) {
+                final MDCKey<?> key = keysByName.get(name);
+                if (key != null) {
+                    slots.publish(LoggerProviders.getProvider(), key.index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes the values of the keys with the given names, if they changed.
+     *
+     * @param names the names of the entries
+     */
+    static void publish(final String... names) {
+        if (keys.length != 0) {
+            final Slots slots = SLOTS.get();
+            if (slots != null && slots.dirty) {
+                final LoggerProvider provider = LoggerProviders.getProvider();
+                for (String name : names) {
+                    final MDCKey<?> key = isKeyName(name) ? keysByName.get(name) : null;
+                    if (key != null) {
+                        slots.publish(provider, key.index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a value written to the message diagnostics context with {@link MDC}. A {@code null} value records a
+     * removal.
+     *
+     * @param name  the name of the entry
+     * @param value the value or {@code null}
+     */
+    static void published(final String name, final Object value) {
+        if (isKeyName(name)) {
+            final MDCKey<?> key = keysByName.get(name);
+            if (key != null) {
+                final Slots slots = value == null ? SLOTS.get() : slots();
+                if (slots != null) {
+                    slots.published(key.index, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the keys with the given names, which are the values in the message diagnostics context after
+     * they were {@linkplain #publish() published}.
+     *
+     * @param names the names of the entries
+     *
+     * @return the values, or {@code null} if none of the names is the name of a key
+     */
+    static Object[] values(final String[] names) {
+        if (keys.length == 0) {
+            return null;
+        }
+        Object[] values = null;
+        final Slots slots = SLOTS.get();
+        for (int i = 0; i < names.length; i++) {
+            final MDCKey<?> key = isKeyName(names[i]) ? keysByName.get(names[i]) : null;
+            if (key != null) {
+                if (values == null) {
+                    values = new Object[names.length];
+                }
+                values[i] = slots == null ? null : slots.get(key.index);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Removes the values of the current thread. Called when the message diagnostics context is cleared.
+     */
+    static void clear() {
+        final Slots slots = SLOTS.get();
+        if (slots != null) {
+            slots.clear();
+        }
+    }
+
+    /**
+     * Returns the values of the current thread. The values must have been {@linkplain #publish() published}.
+     *
+     * @return the values, or {@code null} if the thread has no values
+     *
+     * @see LoggingContext#capture()
+     */
+    static Object[] capture() {
+        final Slots slots = SLOTS.get();
+        return slots == null ? null : slots.values.clone();
+    }
+
+    /**
+     * Replaces the values of the current thread with values returned by {@link #capture()}. The message diagnostics
+     * context of the provider must already contain the values, so they are not published again.
+     *
+     * @param values the values or {@code null}
+     *
+     * @see LoggingContext#restore()
+     */
+    static void restore(final Object[] values) {
+        if (values == null) {
+            clear();
+        } else {
+            slots().restore(values);
+        }
+    }
+
+    private static void publishIfNeeded(final Slots slots) {
+        final LoggerProvider provider = LoggerProviders.getProvider();
+        // The loggers of other providers do not publish the values, so they are written immediately
+        if (!(provider instanceof BuiltInLoggerProvider)) {
+            slots.publish(provider);
+        }
+    }
+
+    private static Slots slots() {
+        Slots slots = SLOTS.get();
+        if (slots == null) {
+            slots = new Slots(keys.length);
+            SLOTS.set(slots);
+        }
+        return slots;
+    }
+
+    /**
+     * The values of a thread and the values last written to the message diagnostics context of the provider.
+     */
+    private static final class Slots {
+        private Object[] values;
+        private Object[] published;
+        private boolean dirty;
+
+        Slots(final int size) {
+            values = new Object[size];
+            published = new Object[size];
+        }
+
+        Object get(final int index) {
+            return index < values.length ? values[index] : null;
+        }
+
+        Object set(final int index, final Object value) {
+            ensureCapacity(index);
+            final Object previous = values[index];
+            values[index] = value;
+            if (value != published[index]) {
+                dirty = true;
+            }
+            return previous;
+        }
+
+        void published(final int index, final Object value) {
+            ensureCapacity(index);
+            values[index] = value;
+            published[index] = value;
+        }
+
+        void publish(final LoggerProvider provider) {
+            dirty = false;
+            for (int i = 0; i < values.length; i++) {
+                publish(provider, i);
+            }
+        }
+
+        void publish(final LoggerProvider provider, final int index) {
+            if (index < values.length) {
+                final Object value = values[index];
+                if (value != published[index]) {
+                    published[index] = value;
+                    final Object resolved = resolve(value);
+                    if (resolved == null) {
+                        provider.removeMdc(keys[index].name);
+                    } else {
+                        provider.putMdc(keys[index].name, resolved);
+                    }
+                }
+            }
+        }
+
+        void restore(final Object[] captured) {
+            final int size = Math.max(captured.length, values.length);
+            values = Arrays.copyOf(captured, size);
+            published = Arrays.copyOf(captured, size);
+            dirty = false;
+        }
+
+        void clear() {
+            Arrays.fill(values, null);
+            Arrays.fill(published, null);
+            dirty = false;
+        }
+
+        private void ensureCapacity(final int index) {
+            if (index >= values.length) {
+                final int size = Math.max(index + 1, keys.length);
+                values = Arrays.copyOf(values, size);
+                published = Arrays.copyOf(published, size);
+            }
+        }
+    }
+
+    /**
+     * A value computed by a supplier when it is first needed. A {@linkplain LoggingContext#capture() captured} value may
+     * be needed by several threads at once, so the value is computed under the lock of the instance.
+     */
+    private static final class LazyValue {
+        // Guarded by this
+        private Supplier<?> supplier;
+        private Object value;
+
+        LazyValue(final Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        synchronized Object get() {
+            final Supplier<?> supplier = this.supplier;
+            if (supplier != null) {
+                this.supplier = null;
+                try {
+                    value = supplier.get();
+                } catch (RuntimeException ignore) {
+                    // a failing supplier must not fail the logging call, the entry is omitted
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -27,7 +27,7 @@ public final class NDC {
      * Clears the nested diagnostics context.
      */
     public static void clear() {
-        LoggerProviders.PROVIDER.clearNdc();
+        LoggerProviders.getProvider().clearNdc();
     }
 
     /**
@@ -36,7 +36,7 @@ public final class NDC {
      * @return the current value set or {@code null} if no value was set
      */
     public static String get() {
-        return LoggerProviders.PROVIDER.getNdc();
+        return LoggerProviders.getProvider().getNdc();
     }
 
     /**
@@ -45,7 +45,7 @@ public final class NDC {
      * @return the current depth of the stack
      */
     public static int getDepth() {
-        return LoggerProviders.PROVIDER.getNdcDepth();
+        return LoggerProviders.getProvider().getNdcDepth();
     }
 
     /**
@@ -54,7 +54,7 @@ public final class NDC {
      * @return the top value from the stack or an empty string if no value was set
      */
     public static String pop() {
-        return LoggerProviders.PROVIDER.popNdc();
+        return LoggerProviders.getProvider().popNdc();
     }
 
     /**
@@ -63,7 +63,7 @@ public final class NDC {
      * @return the value or an empty string
      */
     public static String peek() {
-        return LoggerProviders.PROVIDER.peekNdc();
+        return LoggerProviders.getProvider().peekNdc();
     }
 
     /**
@@ -72,7 +72,7 @@ public final class NDC {
      * @param message the message to push
      */
     public static void push(String message) {
-        LoggerProviders.PROVIDER.pushNdc(message);
+        LoggerProviders.getProvider().pushNdc(message);
     }
 
     /**
@@ -81,6 +81,6 @@ public final class NDC {
      * @param maxDepth the maximum depth to set
      */
     public static void setMaxDepth(int maxDepth) {
-        LoggerProviders.PROVIDER.setNdcMaxDepth(maxDepth);
+        LoggerProviders.getProvider().setNdcMaxDepth(maxDepth);
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeClassInitialization;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+/**
+ * A GraalVM native image {@linkplain Feature feature} for JBoss Logging.
+ * <p>
+ * The feature is registered automatically through the {@code native-image.properties} of this library and:
+ * </p>
+ * <ul>
+ * <li>selects the {@linkplain LoggerProvider provider} while the image is being built so that only the selected
+ * provider, and the log manager it binds to, is reachable in the image. The provider is selected from the class path
+ * without being created, so no log manager is initialized in the image builder, see {@link BuildTimeLoggerProvider}</li>
+ * <li>registers the generated {@code $logger} and {@code $bundle} implementations of reachable message logger and
+ * message bundle interfaces so they can be found by
+ * {@link Logger#getMessageLogger(java.lang.invoke.MethodHandles.Lookup, Class, String)}
+ * and {@link Messages#getBundle(java.lang.invoke.MethodHandles.Lookup, Class)}</li>
+ * </ul>
+ * <p>
+ * The provider can be chosen explicitly at build time by passing {@code -Dorg.jboss.logging.provider} to the
+ * {@code native-image} command.
+ * </p>
+ */
+public final class NativeImageFeature implements Feature {
+
+    /**
+     * The system property GraalVM sets to {@code buildtime} in the image builder and {@code runtime} in the image.
+     */
+    static final String IMAGE_CODE_KEY = "org.graalvm.nativeimage.imagecode";
+
+    private static final String PACKAGE_PREFIX = NativeImageFeature.class.getPackageName() + '.';
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String[] GENERATED_SUFFIXES = {
+            "_$logger",
+            "_$bundle",
+    };
+
+    @Override
+    public String getDescription() {
+        return "Selects the JBoss Logging provider at build time and registers generated message loggers and bundles";
+    }
+
+    @Override
+    public void afterRegistration(final AfterRegistrationAccess access) {
+        RuntimeClassInitialization.initializeAtBuildTime(BuildTimeLoggerProvider.class);
+    }
+
+    @Override
+    public void beforeAnalysis(final BeforeAnalysisAccess access) {
+        final Class<? extends LoggerProvider> providerType = BuildTimeLoggerProvider.TYPE;
+        if (providerType != null && !providerType.getName().startsWith(PACKAGE_PREFIX)) {
+            // Custom providers are created reflectively at run time, see BuildTimeLoggerProvider.factory()
+            try {
+                RuntimeReflection.register(providerType);
+                RuntimeReflection.register(providerType.getConstructor());
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("The logger provider " + providerType.getName()
+                        + " does not have a public no-arg constructor", e);
+            }
+        }
+        for (String className : findGeneratedClassNames(access.getApplicationClassPath())) {
+            final Class<?> generatedType = access.findClassByName(className);
+            final Class<?> interfaceType = access.findClassByName(className.substring(0, className.lastIndexOf("_$")));
+            if (generatedType != null && interfaceType != null) {
+                // Only register the implementation if the interface is used in the image
+                access.registerReachabilityHandler(duringAnalysis -> {
+                    RuntimeReflection.register(generatedType);
+                    RuntimeReflection.register(generatedType.getDeclaredConstructors());
+                }, interfaceType);
+            }
+        }
+    }
+
+    static List<String> findGeneratedClassNames(final List<Path> classPath) {
+        final List<String> result = new ArrayList<>();
+        for (Path path : classPath) {
+            try {
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> files = Files.walk(path)) {
+                        files.filter(Files::isRegularFile)
+                                .map(file -> path.relativize(file).toString().replace(path.getFileSystem().getSeparator(), "/"))
+                                .forEach(name -> addGeneratedClassName(result, name));
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    try (ZipFile zipFile = new ZipFile(path.toFile())) {
+                        final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                        while (entries.hasMoreElements()) {
+                            addGeneratedClassName(result, entries.nextElement().getName());
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to scan " + path + " for generated loggers and bundles", e);
+            }
+        }
+        return result;
+    }
+
+    private static void addGeneratedClassName(final List<String> result, final String entryName) {
+        if (!entryName.endsWith(CLASS_SUFFIX) || entryName.startsWith("META-INF/")) {
+            return;
+        }
+        final String className = entryName.substring(0, entryName.length() - CLASS_SUFFIX.length()).replace('/', '.');
+        for (String suffix : GENERATED_SUFFIXES) {
+            // The generated name is the interface name followed by the suffix and optionally the locale
+            final int index = className.lastIndexOf(suffix);
+            if (index > 0 && className.indexOf('.', index) == -1) {
+                result.add(className);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A logger which drops the messages logged above a rate. The number of dropped messages is logged with the first message
+ * of the next period.
+ * <p>
+ * A logger is rate limited with {@link Logger#rateLimited(int)}, or for all the loggers of a category with the
+ * {@code org.jboss.logging.rate-limit} system property, a comma separated list of {@code category=perSecond} entries. The
+ * loggers of a category and its child categories share the limit of the category.
+ * </p>
+ */
+final class RateLimitedLogger extends ForwardingLogger {
+    static final String RATE_LIMIT_KEY = "org.jboss.logging.rate-limit";
+
+    private static final long serialVersionUID = -2289658829561616473L;
+    private static final String FQCN = RateLimitedLogger.class.getName();
+
+    // The limits by category, the buckets are created when the first logger of the category is created
+    private static final Map<String, Integer> LIMITS = parse(SecurityActions.getSystemProperty(RATE_LIMIT_KEY));
+    private static final Map<String, TokenBucket> BUCKETS = new ConcurrentHashMap<>();
+
+    private final transient Logger logger;
+    private final transient TokenBucket bucket;
+
+    RateLimitedLogger(final String name, final Logger logger, final TokenBucket bucket) {
+        super(name);
+        this.logger = logger;
+        this.bucket = bucket;
+    }
+
+    /**
+     * Returns the logger rate limited with the limit of its category, if the category or a parent category has a limit.
+     *
+     * @param name   the name of the logger
+     * @param logger the logger
+     *
+     * @return the rate limited logger or the logger itself
+     */
+    static Logger forCategory(final String name, final Logger logger) {
+        return forCategory(name, logger, LIMITS, BUCKETS);
+    }
+
+    /**
+     * Returns the logger rate limited with the limit of its category.
+     *
+     * @param name    the name of the logger
+     * @param logger  the logger
+     * @param limits  the limits by category, as returned by {@link #parse(String)}
+     * @param buckets the buckets of the categories which already have a logger
+     *
+     * @return the rate limited logger or the logger itself
+     */
+    static Logger forCategory(final String name, final Logger logger, final Map<String, Integer> limits,
+            final Map<String, TokenBucket> buckets) {
+        if (limits.isEmpty()) {
+            return logger;
+        }
+        // The categories are sorted so the most specific category which contains the name is found last
+        String category = null;
+        for (String candidate : limits.keySet()) {
+            if (name.equals(candidate) || (name.startsWith(candidate) && name.charAt(candidate.length()) == '.')) {
+                category = candidate;
+            }
+        }
+        if (category == null) {
+            return logger;
+        }
+        final Integer limit = limits.get(category);
+        return new RateLimitedLogger(name, logger, buckets.computeIfAbsent(category, c -> new TokenBucket(limit)));
+    }
+
+    static Map<String, Integer> parse(final String value) {
+        final Map<String, Integer> limits = new TreeMap<>();
+        if (value != null) {
+            for (String entry : value.split(",")) {
+                final int index = entry.indexOf('=');
+                if (index > 0) {
+                    try {
+                        final int limit = Integer.parseInt(entry.substring(index + 1).trim());
+                        if (limit > 0) {
+                            limits.put(entry.substring(0, index).trim(), limit);
+                        }
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+        }
+        return limits;
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        // Messages which are not enabled do not use a permit
+        if (!enabled || acquire(level)) {
+            forward(level, loggerClassName, printf, message, parameters, thrown, keys, values, enabled);
+        }
+    }
+
+    private boolean acquire(final Level level) {
+        final long suppressed = bucket.tryAcquire(level);
+        if (suppressed < 0) {
+            return false;
+        }
+        if (suppressed > 0) {
+            final Level suppressedLevel = bucket.takeSuppressedLevel();
+            logger.doLogf(suppressedLevel == null ? level : suppressedLevel, FQCN,
+                    "%d messages were suppressed by the rate limit of %d per second",
+                    new Object[] { suppressed, bucket.permits() }, null);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.Arrays;
+
+/**
+ * The builder returned by the {@code at} methods of a logger when the level is enabled. Each thread reuses a single
+ * builder, a second builder is only created when a builder is requested before the message of the current one has been
+ * logged, for example when a value of a field is computed by code which logs.
+ */
+final class ReusableLogBuilder implements LogBuilder {
+
+    private static final String FQCN = ReusableLogBuilder.class.getName();
+    private static final String[] NO_KEYS = new String[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private static final ThreadLocal<ReusableLogBuilder> BUILDER = ThreadLocal.withInitial(ReusableLogBuilder::new);
+
+    /**
+     * The builder returned when the level is disabled.
+     */
+    static final LogBuilder NOOP = new NoOp();
+
+    private Logger logger;
+    private Logger.Level level;
+    private Throwable cause;
+    private String[] keys = new String[4];
+    private Object[] values = new Object[4];
+    private int size;
+    private boolean inUse;
+
+    private ReusableLogBuilder() {
+    }
+
+    /**
+     * Returns the builder of the current thread.
+     *
+     * @param logger the logger which logs the message
+     * @param level  the level of the message, which must be enabled
+     *
+     * @return the builder
+     */
+    static LogBuilder get(final Logger logger, final Logger.Level level) {
+        ReusableLogBuilder builder = BUILDER.get();
+        if (builder.inUse) {
+            // The builder is replaced rather than shared, which also recovers from a builder which was never logged
+            builder = new ReusableLogBuilder();
+            BUILDER.set(builder);
+        }
+        builder.inUse = true;
+        builder.logger = logger;
+        builder.level = level;
+        return builder;
+    }
+
+    @Override
+    public LogBuilder kv(final String key, final Object value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key of a field cannot be null");
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public LogBuilder cause(final Throwable cause) {
+        this.cause = cause;
+        return this;
+    }
+
+    @Override
+    public void log(final Object message) {
+        final Logger logger = this.logger;
+        final Logger.Level level = this.level;
+        final Throwable cause = this.cause;
+        final String[] keys = fieldKeys();
+        final Object[] values = fieldValues();
+        release();
+        if (keys.length == 0) {
+            logger.doLog(level, FQCN, message, null, cause);
+        } else {
+            logger.doLog(level, FQCN, message, null, cause, keys, values);
+        }
+    }
+
+    @Override
+    public void logv(final String format, final Object... params) {
+        final Logger logger = this.logger;
+        final Logger.Level level = this.level;
+        final Throwable cause = this.cause;
+        final String[] keys = fieldKeys();
+        final Object[] values = fieldValues();
+        release();
+        if (keys.length == 0) {
+            logger.doLog(level, FQCN, format, params, cause);
+        } else {
+            logger.doLog(level, FQCN, format, params, cause, keys, values);
+        }
+    }
+
+    @Override
+    public void logf(final String format, final Object... params) {
+        final Logger logger = this.logger;
+        final Logger.Level level = this.level;
+        final Throwable cause = this.cause;
+        final String[] keys = fieldKeys();
+        final Object[] values = fieldValues();
+        release();
+        if (keys.length == 0) {
+            logger.doLogf(level, FQCN, format, params, cause);
+        } else {
+            logger.doLogf(level, FQCN, format, params, cause, keys, values);
+        }
+    }
+
+    private String[] fieldKeys() {
+        return size == 0 ? NO_KEYS : Arrays.copyOf(keys, size);
+    }
+
+    private Object[] fieldValues() {
+        return size == 0 ? NO_VALUES : Arrays.copyOf(values, size);
+    }
+
+    // The builder is released before the message is logged, so code called by the log manager can use it again
+    private void release() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        logger = null;
+        level = null;
+        cause = null;
+        inUse = false;
+    }
+
+    private static final class NoOp implements LogBuilder {
+
+        @Override
+        public LogBuilder kv(final String key, final Object value) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder cause(final Throwable cause) {
+            return this;
+        }
+
+        @Override
+        public void log(final Object message) {
+        }
+
+        @Override
+        public void logv(final String format, final Object... params) {
+        }
+
+        @Override
+        public void logf(final String format, final Object... params) {
+        }
+    }
+}
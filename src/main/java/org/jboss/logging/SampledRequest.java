@@ -0,0 +1,222 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A request whose messages are buffered until it completes, then either written or discarded together.
+ * <p>
+ * Sampling is enabled by setting the {@code org.jboss.logging.sampling.key} system property to the
+ * {@linkplain MDC mapped diagnostic context} key which holds the correlation id of a request, for example
+ * {@code requestId}. While a request is open, the enabled messages logged by any thread whose context maps the key to the
+ * id of the request are buffered. The id is a string, as most log managers only store strings in their context, and a
+ * value of another type in the context is compared by its {@code toString()}:
+ * </p>
+ *
+ * <pre>
+ * MDC.put("requestId", id);
+ * try (SampledRequest request = SampledRequest.begin(id)) {
+ *     handle(exchange);
+ *     if (exchange.getStatus() &gt;= 500) {
+ *         request.keep();
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * When the request is closed, its messages are written with the context of the threads which logged them if the request
+ * was {@linkplain #keep() kept}, if the request took longer than {@code org.jboss.logging.sampling.slow} milliseconds, or
+ * if it was picked by the {@code org.jboss.logging.sampling.rate} sample rate, a fraction between {@code 0} and
+ * {@code 1}. Otherwise they are discarded.
+ * </p>
+ * <p>
+ * A message logged at {@code ERROR} or {@code FATAL} is written immediately, after the messages buffered before it. The
+ * later messages of the request are then written as they are logged too.
+ * </p>
+ * <p>
+ * The buffered messages are written later than they were logged, so the log manager records the time they are written
+ * as their time. Each of them is prefixed with {@code [+N ms]}, the time at which it was logged since the request
+ * began.
+ * </p>
+ * <p>
+ * At most {@code org.jboss.logging.sampling.capacity} messages, {@code 10000} by default, are buffered for all requests.
+ * Messages logged while the buffer is full are written immediately.
+ * </p>
+ */
+public final class SampledRequest implements AutoCloseable {
+    static final String KEY_KEY = "org.jboss.logging.sampling.key";
+    static final String RATE_KEY = "org.jboss.logging.sampling.rate";
+    static final String SLOW_KEY = "org.jboss.logging.sampling.slow";
+    static final String CAPACITY_KEY = "org.jboss.logging.sampling.capacity";
+
+    /**
+     * The correlation key or {@code null} if sampling is disabled.
+     */
+    static final String KEY = key();
+
+    private static final double RATE = parse(RATE_KEY, 0D);
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(SecurityActions.getIntSystemProperty(SLOW_KEY, 0));
+    private static final int CAPACITY = SecurityActions.getIntSystemProperty(CAPACITY_KEY, 10000);
+
+    private static final ConcurrentMap<String, SampledRequest> REQUESTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger BUFFERED = new AtomicInteger();
+
+    private final String id;
+    private final long start;
+    private List<LogEvent> events = new ArrayList<>();
+    private boolean keep;
+    // Set by the first error, the messages are then written as they are logged
+    private boolean failed;
+    private boolean closed;
+
+    private SampledRequest(final String id) {
+        this.id = id;
+        start = System.nanoTime();
+    }
+
+    /**
+     * Begins buffering the messages of a request. If sampling is not enabled the messages are written as they are
+     * logged.
+     *
+     * @param correlationId the value of the correlation key in the context of the threads handling the request
+     *
+     * @return the request, which must be closed when the request completes
+     *
+     * @throws IllegalStateException if a request with the same correlation id is open
+     */
+    public static SampledRequest begin(final String correlationId) {
+        if (correlationId == null) {
+            throw new IllegalArgumentException("The correlation id cannot be null");
+        }
+        final SampledRequest request = new SampledRequest(correlationId);
+        if (KEY == null) {
+            request.closed = true;
+        } else if (REQUESTS.putIfAbsent(correlationId, request) != null) {
+            throw new IllegalStateException("A request with the correlation id " + correlationId + " is already open");
+        }
+        return request;
+    }
+
+    /**
+     * Marks the request to be written when it is closed, for example because it failed.
+     */
+    public synchronized void keep() {
+        keep = true;
+    }
+
+    /**
+     * Completes the request and writes or discards its messages. Closing the request more than once has no effect.
+     */
+    @Override
+    public void close() {
+        final List<LogEvent> events;
+        final boolean write;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            REQUESTS.remove(id, this);
+            events = this.events;
+            this.events = null;
+            BUFFERED.addAndGet(-events.size());
+            write = keep || (SLOW_NANOS > 0 && System.nanoTime() - start >= SLOW_NANOS)
+                    || (RATE > 0 && ThreadLocalRandom.current().nextDouble() < RATE);
+        }
+        if (write) {
+            write(events);
+        }
+    }
+
+    /**
+     * Returns the open request the current thread is logging for.
+     *
+     * @return the request or {@code null}
+     */
+    static SampledRequest current() {
+        if (REQUESTS.isEmpty()) {
+            return null;
+        }
+        final Object id = MDC.get(KEY);
+        return id == null ? null : REQUESTS.get(id.toString());
+    }
+
+    /**
+     * Buffers an event of the request. The first error writes the events buffered before it, and is itself written by
+     * the caller.
+     *
+     * @param event the event
+     *
+     * @return {@code true} if the event was buffered, {@code false} if it should be written now
+     */
+    boolean add(final LogEvent event) {
+        final List<LogEvent> buffered;
+        synchronized (this) {
+            if (closed || failed) {
+                return false;
+            }
+            if (event.getLevel() != Logger.Level.ERROR && event.getLevel() != Logger.Level.FATAL) {
+                if (BUFFERED.incrementAndGet() > CAPACITY) {
+                    BUFFERED.decrementAndGet();
+                    return false;
+                }
+                events.add(event);
+                return true;
+            }
+            failed = true;
+            keep = true;
+            buffered = events;
+            events = new ArrayList<>();
+            BUFFERED.addAndGet(-buffered.size());
+        }
+        write(buffered);
+        return false;
+    }
+
+    private void write(final List<LogEvent> events) {
+        for (LogEvent event : events) {
+            try {
+                event.replay(String.format("[+%d ms] ", TimeUnit.NANOSECONDS.toMillis(event.getNanoTime() - start)));
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private static String key() {
+        final String value = SecurityActions.getSystemProperty(KEY_KEY);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static double parse(final String key, final double dft) {
+        final String value = SecurityActions.getSystemProperty(key);
+        if (value != null) {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return dft;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A logger which buffers the messages logged for an open {@link SampledRequest} until the request completes.
+ */
+final class SamplingLogger extends ForwardingLogger {
+
+    private static final long serialVersionUID = -6905368826148062517L;
+
+    private final transient Logger logger;
+
+    SamplingLogger(final String name, final Logger logger) {
+        super(name);
+        this.logger = logger;
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        final SampledRequest request = enabled ? SampledRequest.current() : null;
+        if (request == null || !request.add(new LogEvent(null, logger, level, loggerClassName,
+                LogEvent.formatStyle(printf, parameters), message, parameters, thrown, keys, values, true))) {
+            forward(level, loggerClassName, printf, message, parameters, thrown, keys, values, enabled);
+        }
+    }
+}
@@ -50,4 +50,23 @@ class SecurityActions {
             }
         });
     }
+
+    /**
+     * Returns the value of a system property as a number which is not negative.
+     *
+     * @param key the name of the property
+     * @param dft the value returned if the property is not set or is not a number
+     *
+     * @return the value of the property, {@code 0} if it is negative, or the default value
+     */
+    static int getIntSystemProperty(final String key, final int dft) {
+        final String value = getSystemProperty(key);
+        if (value != null) {
+            try {
+                return Math.max(0, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return dft;
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.spi.LoggingEventAware;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * Logs messages with the bound fields of a {@linkplain Logger#with(String, Object) child logger} as key-value pairs of
+ * the fluent API added in SLF4J 2. The loggers fall back to the mapped diagnostic context with older versions of SLF4J.
+ */
+final class Slf4jKeyValues {
+
+    /**
+     * Whether the SLF4J API supports key-value pairs.
+     */
+    static final boolean SUPPORTED = isSupported();
+
+    private Slf4jKeyValues() {
+    }
+
+    private static boolean isSupported() {
+        try {
+            org.slf4j.Logger.class.getMethod("makeLoggingEventBuilder",
+                    Class.forName("org.slf4j.event.Level", false, Slf4jKeyValues.class.getClassLoader()));
+            Class.forName("org.slf4j.spi.LoggingEventAware", false, Slf4jKeyValues.class.getClassLoader());
+            return true;
+        } catch (Throwable ignore) {
+            return false;
+        }
+    }
+
+    /**
+     * Logs the message with the fields. The caller must check the level and that key-value pairs are
+     * {@linkplain #SUPPORTED supported}.
+     *
+     * @param logger          the logger
+     * @param loggerClassName the logger class name, used to find the caller
+     * @param level           the level
+     * @param text            the formatted message
+     * @param thrown          the exception which was thrown, if any
+     * @param keys            the keys of the fields
+     * @param values          the values of the fields, a {@code null} value omits the field
+     */
+    static void log(final org.slf4j.Logger logger, final String loggerClassName, final Logger.Level level,
+            final String text, final Throwable thrown, final String[] keys, final Object[] values) {
+        if (logger instanceof LoggingEventAware) {
+            // The event is passed to the logger directly, as the builder replaces the caller boundary with its own class
+            final DefaultLoggingEvent event = new DefaultLoggingEvent(translate(level), logger);
+            event.setCallerBoundary(loggerClassName);
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    event.addKeyValue(keys[i], values[i]);
+                }
+            }
+            event.setMessage(text);
+            event.setThrowable(thrown);
+            ((LoggingEventAware) logger).log(event);
+        } else {
+            final LoggingEventBuilder builder = logger.makeLoggingEventBuilder(translate(level));
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    builder.addKeyValue(keys[i], values[i]);
+                }
+            }
+            if (thrown != null) {
+                builder.setCause(thrown);
+            }
+            builder.log(text);
+        }
+    }
+
+    private static org.slf4j.event.Level translate(final Logger.Level level) {
+        if (level == Logger.Level.TRACE) {
+            return org.slf4j.event.Level.TRACE;
+        } else if (level == Logger.Level.DEBUG) {
+            return org.slf4j.event.Level.DEBUG;
+        } else if (level == Logger.Level.INFO) {
+            return org.slf4j.event.Level.INFO;
+        } else if (level == Logger.Level.WARN) {
+            return org.slf4j.event.Level.WARN;
+        }
+        return org.slf4j.event.Level.ERROR;
+    }
+}
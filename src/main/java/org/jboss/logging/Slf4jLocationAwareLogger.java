@@ -59,6 +59,10 @@ final class Slf4jLocationAwareLogger extends Logger {
     }
 
     public boolean isEnabled(final Level level) {
+        return isAllowed(level) && (LevelOverride.isForced(level, getName()) || isLoggerEnabled(level));
+    }
+
+    private boolean isLoggerEnabled(final Level level) {
         if (level != null)
             switch (level) {
                 case FATAL:
@@ -80,17 +84,53 @@ final class Slf4jLocationAwareLogger extends Logger {
     protected void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
             final Throwable thrown) {
         if (isEnabled(level)) {
+            MDCKey.publish();
             final String text = parameters == null || parameters.length == 0 ? String.valueOf(message)
                     : MessageFormat.format(String.valueOf(message), parameters);
-            doLog(logger, loggerClassName, translate(level), text, thrown);
+            if (!forced(level, loggerClassName, text, thrown)) {
+                doLog(logger, loggerClassName, translate(level), text, thrown);
+            }
         }
     }
 
     protected void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
             final Throwable thrown) {
         if (isEnabled(level)) {
+            MDCKey.publish();
+            final String text = parameters == null ? String.format(format) : String.format(format, parameters);
+            if (!forced(level, loggerClassName, text, thrown)) {
+                doLog(logger, loggerClassName, translate(level), text, thrown);
+            }
+        }
+    }
+
+    // A message enabled by a level override is passed to the appenders, as the logger would discard it
+    private boolean forced(final Level level, final String loggerClassName, final String text, final Throwable thrown) {
+        return !isLoggerEnabled(level) && Slf4jLogback.callAppenders(logger, loggerClassName, level, text, thrown);
+    }
+
+    @Override
+    void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        if (!Slf4jKeyValues.SUPPORTED || !isLoggerEnabled(level)) {
+            super.doLog(level, loggerClassName, message, parameters, thrown, keys, values);
+        } else if (isEnabled(level)) {
+            MDCKey.publish();
+            final String text = parameters == null || parameters.length == 0 ? String.valueOf(message)
+                    : MessageFormat.format(String.valueOf(message), parameters);
+            Slf4jKeyValues.log(logger, loggerClassName, level, text, thrown, keys, values);
+        }
+    }
+
+    @Override
+    void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        if (!Slf4jKeyValues.SUPPORTED || !isLoggerEnabled(level)) {
+            super.doLogf(level, loggerClassName, format, parameters, thrown, keys, values);
+        } else if (isEnabled(level)) {
+            MDCKey.publish();
             final String text = parameters == null ? String.format(format) : String.format(format, parameters);
-            doLog(logger, loggerClassName, translate(level), text, thrown);
+            Slf4jKeyValues.log(logger, loggerClassName, level, text, thrown, keys, values);
         }
     }
 
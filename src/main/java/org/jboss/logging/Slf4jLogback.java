@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Passes messages enabled by a {@linkplain LevelOverride level override} to the appenders of a Logback logger. SLF4J has
+ * no way to log a message below the level of a logger, so messages are only forced through Logback, which is looked up
+ * reflectively from the class of the logger.
+ */
+final class Slf4jLogback {
+    private static final String LOGGER_TYPE = "ch.qos.logback.classic.Logger";
+
+    // The appenders of the last Logback logger type seen, usually the only one
+    private static volatile Appenders appenders;
+
+    private Slf4jLogback() {
+    }
+
+    /**
+     * Passes the message to the appenders of the logger if it is a Logback logger.
+     *
+     * @param logger          the logger
+     * @param loggerClassName the logger class name, used to find the caller
+     * @param level           the level
+     * @param message         the formatted message
+     * @param thrown          the exception which was thrown, if any
+     *
+     * @return {@code true} if the message was passed to the appenders, {@code false} if the logger is not a Logback logger
+     */
+    static boolean callAppenders(final org.slf4j.Logger logger, final String loggerClassName, final Logger.Level level,
+            final String message, final Throwable thrown) {
+        final Class<?> type = logger.getClass();
+        if (!LOGGER_TYPE.equals(type.getName())) {
+            return false;
+        }
+        Appenders appenders = Slf4jLogback.appenders;
+        if (appenders == null || appenders.type != type) {
+            appenders = new Appenders(type);
+            Slf4jLogback.appenders = appenders;
+        }
+        return appenders.call(logger, loggerClassName, level, message, thrown);
+    }
+
+    private static final class Appenders {
+        private final Class<?> type;
+        private final MethodHandle newEvent;
+        private final MethodHandle callAppenders;
+        // The Logback levels indexed by the ordinal of the level
+        private final Object[] levels;
+
+        Appenders(final Class<?> type) {
+            this.type = type;
+            MethodHandle newEvent = null;
+            MethodHandle callAppenders = null;
+            Object[] levels = null;
+            try {
+                final ClassLoader cl = type.getClassLoader();
+                final Class<?> levelType = Class.forName("ch.qos.logback.classic.Level", false, cl);
+                final Class<?> eventType = Class.forName("ch.qos.logback.classic.spi.LoggingEvent", false, cl);
+                final Class<?> eventInterface = Class.forName("ch.qos.logback.classic.spi.ILoggingEvent", false, cl);
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                newEvent = lookup.findConstructor(eventType, MethodType.methodType(void.class, String.class, type, levelType,
+                        String.class, Throwable.class, Object[].class))
+                        .asType(MethodType.methodType(Object.class, String.class, Object.class, Object.class, String.class,
+                                Throwable.class, Object[].class));
+                callAppenders = lookup.findVirtual(type, "callAppenders", MethodType.methodType(void.class, eventInterface))
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                final MethodHandle toLevel = lookup.findStatic(levelType, "toLevel",
+                        MethodType.methodType(levelType, String.class));
+                final Logger.Level[] values = Logger.Level.values();
+                levels = new Object[values.length];
+                for (Logger.Level level : values) {
+                    levels[level.ordinal()] = toLevel.invoke(level == Logger.Level.FATAL ? "ERROR" : level.name());
+                }
+            } catch (Throwable ignored) {
+                newEvent = null;
+            }
+            this.newEvent = newEvent;
+            this.callAppenders = callAppenders;
+            this.levels = levels;
+        }
+
+        boolean call(final Object logger, final String loggerClassName, final Logger.Level level, final String message,
+                final Throwable thrown) {
+            if (newEvent == null) {
+                return false;
+            }
+            try {
+                final Object event = (Object) newEvent.invokeExact(loggerClassName, logger, levels[level.ordinal()],
+                        message, thrown, (Object[]) null);
+                callAppenders.invokeExact(logger, event);
+                return true;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
@@ -32,6 +32,10 @@ final class Slf4jLogger extends Logger {
     }
 
     public boolean isEnabled(final Level level) {
+        return isAllowed(level) && (LevelOverride.isForced(level, getName()) || isLoggerEnabled(level));
+    }
+
+    private boolean isLoggerEnabled(final Level level) {
         if (level == Level.TRACE) {
             return logger.isTraceEnabled();
         } else if (level == Level.DEBUG) {
@@ -55,18 +59,11 @@ final class Slf4jLogger extends Logger {
             final Throwable thrown) {
         if (isEnabled(level))
             try {
+                MDCKey.publish();
                 final String text = parameters == null || parameters.length == 0 ? String.valueOf(message)
                         : MessageFormat.format(String.valueOf(message), parameters);
-                if (level == Level.INFO) {
-                    logger.info(text, thrown);
-                } else if (level == Level.WARN) {
-                    logger.warn(text, thrown);
-                } else if (level == Level.ERROR || level == Level.FATAL) {
-                    logger.error(text, thrown);
-                } else if (level == Level.DEBUG) {
-                    logger.debug(text, thrown);
-                } else if (level == Level.TRACE) {
-                    logger.debug(text, thrown);
+                if (!forced(level, loggerClassName, text, thrown)) {
+                    log(level, text, thrown);
                 }
             } catch (Throwable ignored) {
             }
@@ -76,19 +73,60 @@ final class Slf4jLogger extends Logger {
             final Throwable thrown) {
         if (isEnabled(level))
             try {
+                MDCKey.publish();
                 final String text = parameters == null ? String.format(format) : String.format(format, parameters);
-                if (level == Level.INFO) {
-                    logger.info(text, thrown);
-                } else if (level == Level.WARN) {
-                    logger.warn(text, thrown);
-                } else if (level == Level.ERROR || level == Level.FATAL) {
-                    logger.error(text, thrown);
-                } else if (level == Level.DEBUG) {
-                    logger.debug(text, thrown);
-                } else if (level == Level.TRACE) {
-                    logger.debug(text, thrown);
+                if (!forced(level, loggerClassName, text, thrown)) {
+                    log(level, text, thrown);
                 }
             } catch (Throwable ignored) {
             }
     }
+
+    // A message enabled by a level override is passed to the appenders, as the logger would discard it
+    private boolean forced(final Level level, final String loggerClassName, final String text, final Throwable thrown) {
+        return !isLoggerEnabled(level) && Slf4jLogback.callAppenders(logger, loggerClassName, level, text, thrown);
+    }
+
+    private void log(final Level level, final String text, final Throwable thrown) {
+        if (level == Level.INFO) {
+            logger.info(text, thrown);
+        } else if (level == Level.WARN) {
+            logger.warn(text, thrown);
+        } else if (level == Level.ERROR || level == Level.FATAL) {
+            logger.error(text, thrown);
+        } else if (level == Level.DEBUG) {
+            logger.debug(text, thrown);
+        } else if (level == Level.TRACE) {
+            logger.debug(text, thrown);
+        }
+    }
+
+    @Override
+    void doLog(final Level level, final String loggerClassName, final Object message, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        if (!Slf4jKeyValues.SUPPORTED || !isLoggerEnabled(level)) {
+            super.doLog(level, loggerClassName, message, parameters, thrown, keys, values);
+        } else if (isEnabled(level))
+            try {
+                MDCKey.publish();
+                final String text = parameters == null || parameters.length == 0 ? String.valueOf(message)
+                        : MessageFormat.format(String.valueOf(message), parameters);
+                Slf4jKeyValues.log(logger, loggerClassName, level, text, thrown, keys, values);
+            } catch (Throwable ignored) {
+            }
+    }
+
+    @Override
+    void doLogf(final Level level, final String loggerClassName, final String format, final Object[] parameters,
+            final Throwable thrown, final String[] keys, final Object[] values) {
+        if (!Slf4jKeyValues.SUPPORTED || !isLoggerEnabled(level)) {
+            super.doLogf(level, loggerClassName, format, parameters, thrown, keys, values);
+        } else if (isEnabled(level))
+            try {
+                MDCKey.publish();
+                final String text = parameters == null ? String.format(format) : String.format(format, parameters);
+                Slf4jKeyValues.log(logger, loggerClassName, level, text, thrown, keys, values);
+            } catch (Throwable ignored) {
+            }
+    }
 }
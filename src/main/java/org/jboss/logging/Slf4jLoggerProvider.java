@@ -18,18 +18,23 @@
 
 package org.jboss.logging;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.slf4j.spi.LocationAwareLogger;
+import org.slf4j.spi.MDCAdapter;
 
 /**
  * An implementation of the {@linkplain LoggerProvider log provider} for slf4j with Logback as the log manager.
  */
-public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements LoggerProvider {
+public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements BuiltInLoggerProvider {
 
     @Override
     public Logger getLogger(final String name) {
@@ -58,6 +63,38 @@ public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements
         }
     }
 
+    @Override
+    public Object putMdcAll(final String[] keys, final Object[] values) {
+        final Map<String, String> previous = MDC.getCopyOfContextMap();
+        final Map<String, String> map = previous == null ? new HashMap<>() : new HashMap<>(previous);
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] == null) {
+                map.remove(keys[i]);
+            } else {
+                map.put(keys[i], String.valueOf(values[i]));
+            }
+        }
+        MDC.setContextMap(map);
+        return previous;
+    }
+
+    @Override
+    public void restoreMdc(final String[] keys, final Object state) {
+        @SuppressWarnings("unchecked")
+        final Map<String, String> previous = (Map<String, String>) state;
+        final Map<String, String> current = MDC.getCopyOfContextMap();
+        final Map<String, String> map = current == null ? new HashMap<>() : current;
+        for (String key : keys) {
+            final String value = previous == null ? null : previous.get(key);
+            if (value == null) {
+                map.remove(key);
+            } else {
+                map.put(key, value);
+            }
+        }
+        MDC.setContextMap(map);
+    }
+
     @Override
     public Object getMdc(final String key) {
         return MDC.get(key);
@@ -73,4 +110,54 @@ public final class Slf4jLoggerProvider extends AbstractLoggerProvider implements
         final Map<String, String> copy = MDC.getCopyOfContextMap();
         return copy == null ? Collections.emptyMap() : new LinkedHashMap<>(copy);
     }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Map<String, Object> getMdcSnapshot() {
+        final MethodHandle propertyMap = LogbackPropertyMap.GET;
+        if (propertyMap != null) {
+            try {
+                final Map<String, String> map = (Map<String, String>) propertyMap.invokeExact();
+                return map == null ? Collections.emptyMap() : (Map) map;
+            } catch (Throwable ignore) {
+                // fall back to a copy
+            }
+        }
+        final Map<String, String> copy = MDC.getCopyOfContextMap();
+        return copy == null ? Collections.emptyMap() : (Map) Collections.unmodifiableMap(copy);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restoreMdcState(final Object state) {
+        final Map<String, String> map = (Map<String, String>) state;
+        if (map.isEmpty()) {
+            MDC.clear();
+        } else {
+            // The adapter copies the map
+            MDC.setContextMap(map);
+        }
+    }
+
+    /**
+     * Logback keeps a read-only copy of the MDC which is only replaced when the MDC is modified. The method is looked up
+     * reflectively as only the slf4j API is required.
+     */
+    private static final class LogbackPropertyMap {
+        static final MethodHandle GET = find();
+
+        private static MethodHandle find() {
+            try {
+                final MDCAdapter adapter = MDC.getMDCAdapter();
+                if (adapter != null && "ch.qos.logback.classic.util.LogbackMDCAdapter".equals(adapter.getClass().getName())) {
+                    return MethodHandles.publicLookup()
+                            .findVirtual(adapter.getClass(), "getPropertyMap", MethodType.methodType(Map.class))
+                            .bindTo(adapter);
+                }
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError ignore) {
+                // use a copy
+            }
+            return null;
+        }
+    }
 }
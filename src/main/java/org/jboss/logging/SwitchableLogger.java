@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+/**
+ * A logger which follows the {@linkplain LoggerProviders#getProvider() current provider}. The logger of the provider is
+ * looked up again the first time the logger is used after the provider has been replaced.
+ */
+final class SwitchableLogger extends ForwardingLogger {
+
+    private static final long serialVersionUID = 3316232476862165911L;
+
+    private transient Binding binding;
+
+    SwitchableLogger(final String name, final LoggerProvider provider, final Logger logger) {
+        super(name);
+        binding = new Binding(provider, logger);
+    }
+
+    @Override
+    Logger delegate() {
+        // The binding is immutable, so a racing thread sees either the old or the new binding but never a mix of both
+        Binding binding = this.binding;
+        final LoggerProvider provider = LoggerProviders.getProvider();
+        if (binding.provider != provider) {
+            binding = new Binding(provider, LoggerProviders.getLogger(provider, getName()));
+            this.binding = binding;
+        }
+        return binding.logger;
+    }
+
+    private static final class Binding {
+        private final LoggerProvider provider;
+        private final Logger logger;
+
+        private Binding(final LoggerProvider provider, final Logger logger) {
+            this.provider = provider;
+            this.logger = logger;
+        }
+    }
+}
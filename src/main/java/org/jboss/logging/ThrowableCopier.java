@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies exceptions to replace their stack traces without modifying the exceptions which were thrown.
+ * <p>
+ * The copy is a lightweight substitute rather than an instance of the class of the exception. Its {@code toString()}
+ * renders the class name and message of the original, so it is printed like the original, and it carries the causes
+ * and suppressed exceptions of the original as substitutes. No code of the exception class runs apart from
+ * {@link Throwable#getLocalizedMessage()}, and the original stack traces are not copied. Log managers which record the
+ * class of an exception rather than its {@code toString()} see the class of the substitute.
+ * </p>
+ */
+final class ThrowableCopier {
+
+    private ThrowableCopier() {
+    }
+
+    /**
+     * Copies an exception with its causes and suppressed exceptions.
+     *
+     * @param thrown      the exception to copy
+     * @param omitted     the causes and suppressed exceptions which are left out of the copy, compared by identity
+     * @param stackTraces the stack traces of the copies by the exception they are copied from, compared by identity, an
+     *                    exception which is not mapped keeps its stack trace
+     *
+     * @return the copy
+     */
+    static Throwable copy(final Throwable thrown, final Set<Throwable> omitted,
+            final Map<Throwable, StackTraceElement[]> stackTraces) {
+        return copy(thrown, omitted, stackTraces, new IdentityHashMap<>());
+    }
+
+    private static Throwable copy(final Throwable thrown, final Set<Throwable> omitted,
+            final Map<Throwable, StackTraceElement[]> stackTraces, final Map<Throwable, Throwable> copies) {
+        Throwable copy = copies.get(thrown);
+        if (copy != null) {
+            // An exception reached twice, through a cycle of causes, is copied once
+            return copy;
+        }
+        final StackTraceElement[] stackTrace = stackTraces.get(thrown);
+        copy = new Substitute(thrown, stackTrace == null ? thrown.getStackTrace() : stackTrace);
+        copies.put(thrown, copy);
+        final Throwable cause = thrown.getCause();
+        if (cause != null && !omitted.contains(cause)) {
+            copy.initCause(copy(cause, omitted, stackTraces, copies));
+        }
+        for (Throwable suppressed : thrown.getSuppressed()) {
+            if (!omitted.contains(suppressed)) {
+                copy.addSuppressed(copy(suppressed, omitted, stackTraces, copies));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * An exception rendered as the exception it was copied from.
+     */
+    static final class Substitute extends Throwable {
+        private static final long serialVersionUID = -2853204562217466337L;
+
+        private final String type;
+
+        private Substitute(final Throwable original, final StackTraceElement[] stackTrace) {
+            super(message(original));
+            type = original.getClass().getName();
+            setStackTrace(stackTrace);
+        }
+
+        private static String message(final Throwable original) {
+            try {
+                return original.getLocalizedMessage();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Returns the class name of the exception the substitute was copied from.
+         *
+         * @return the class name
+         */
+        String getType() {
+            return type;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // The stack trace is the one of the original
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            final String message = getLocalizedMessage();
+            return message == null ? type : type + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bucket of permits which is refilled at the start of each period. The period and the number of available permits are
+ * packed into a single {@code long}, so a permit is taken with a single compare-and-set and without locking.
+ */
+final class TokenBucket {
+    private static final long DEFAULT_PERIOD = TimeUnit.SECONDS.toNanos(1);
+
+    private final int permits;
+    private final long period;
+    private final long origin;
+    // The index of the current period in the upper half, the number of available permits in the lower half
+    private final AtomicLong state;
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicInteger suppressedLevel = new AtomicInteger(Integer.MAX_VALUE);
+
+    TokenBucket(final int permits) {
+        this(permits, DEFAULT_PERIOD);
+    }
+
+    TokenBucket(final int permits, final long period) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("The number of permits must be positive");
+        }
+        this.permits = permits;
+        this.period = period;
+        origin = System.nanoTime();
+        state = new AtomicLong(pack(0, permits));
+    }
+
+    /**
+     * Returns the number of permits of each period.
+     *
+     * @return the number of permits
+     */
+    int permits() {
+        return permits;
+    }
+
+    /**
+     * Takes a permit for a message.
+     *
+     * @param level the level of the message, recorded if the message is suppressed
+     *
+     * @return {@code -1} if no permit is available and the message should be suppressed, otherwise the number of
+     *         messages suppressed in the previous period if this permit refilled the bucket, or {@code 0}
+     */
+    long tryAcquire(final Logger.Level level) {
+        final int now = (int) ((System.nanoTime() - origin) / period);
+        for (;;) {
+            final long current = state.get();
+            final int currentPeriod = (int) (current >>> 32);
+            final int available = (int) current;
+            if (now - currentPeriod > 0) {
+                if (state.compareAndSet(current, pack(now, permits - 1))) {
+                    return suppressed.getAndSet(0);
+                }
+            } else if (available > 0) {
+                if (state.compareAndSet(current, pack(currentPeriod, available - 1))) {
+                    return 0;
+                }
+            } else {
+                suppressed.incrementAndGet();
+                suppressedLevel.accumulateAndGet(level == null ? Integer.MAX_VALUE : level.ordinal(), Math::min);
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the most severe level of the suppressed messages and resets it.
+     *
+     * @return the level or {@code null} if no message was suppressed
+     */
+    Logger.Level takeSuppressedLevel() {
+        final int ordinal = suppressedLevel.getAndSet(Integer.MAX_VALUE);
+        return ordinal == Integer.MAX_VALUE ? null : Logger.Level.values()[ordinal];
+    }
+
+    private static long pack(final int period, final int available) {
+        return ((long) period << 32) | (available & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A logger which trims the stack traces of the exceptions it logs before they are passed to the log manager.
+ * <p>
+ * Trimming is enabled by setting at least one of the following system properties:
+ * </p>
+ * <ul>
+ * <li>{@code org.jboss.logging.trim.packages}, a comma separated list of package or class name prefixes, for example
+ * {@code java.lang.reflect.,jdk.internal.reflect.,org.apache.catalina.}. Consecutive frames of these packages are
+ * collapsed into a single {@code ...(N frames omitted)} frame.</li>
+ * <li>{@code org.jboss.logging.trim.depth}, the number of frames kept for each exception after collapsing. The remaining
+ * frames are replaced with a single frame.</li>
+ * <li>{@code org.jboss.logging.trim.causes}, the number of causes kept for each exception.</li>
+ * </ul>
+ * <p>
+ * The logged exception is a {@linkplain ThrowableCopier copy} which is rendered like the original, so the original
+ * exception is not modified. The copies are cached by the identity of the original, so an exception logged more than
+ * once is trimmed once. An exception with nothing to trim is logged as is.
+ * </p>
+ */
+final class TrimmingLogger extends ForwardingLogger {
+    static final String PACKAGES_KEY = "org.jboss.logging.trim.packages";
+    static final String DEPTH_KEY = "org.jboss.logging.trim.depth";
+    static final String CAUSES_KEY = "org.jboss.logging.trim.causes";
+
+    /**
+     * The trimmer or {@code null} if trimming is disabled.
+     */
+    static final Trimmer TRIMMER = trimmer();
+
+    private static final long serialVersionUID = -1741046916546212383L;
+
+    private final transient Logger logger;
+    private final transient Trimmer trimmer;
+
+    TrimmingLogger(final String name, final Logger logger) {
+        this(name, logger, TRIMMER);
+    }
+
+    TrimmingLogger(final String name, final Logger logger, final Trimmer trimmer) {
+        super(name);
+        this.logger = logger;
+        this.trimmer = trimmer;
+    }
+
+    private static Trimmer trimmer() {
+        final List<String> packages = new ArrayList<>();
+        final String value = SecurityActions.getSystemProperty(PACKAGES_KEY);
+        if (value != null) {
+            for (String prefix : value.split(",")) {
+                if (!prefix.isBlank()) {
+                    packages.add(prefix.trim());
+                }
+            }
+        }
+        final int depth = SecurityActions.getIntSystemProperty(DEPTH_KEY, -1);
+        final int causes = SecurityActions.getIntSystemProperty(CAUSES_KEY, -1);
+        return packages.isEmpty() && depth < 0 && causes < 0 ? null : new Trimmer(packages, depth, causes);
+    }
+
+    @Override
+    Logger delegate() {
+        return logger;
+    }
+
+    @Override
+    void intercept(final Level level, final String loggerClassName, final boolean printf, final Object message,
+            final Object[] parameters, final Throwable thrown, final String[] keys, final Object[] values,
+            final boolean enabled) {
+        forward(level, loggerClassName, printf, message, parameters, enabled ? trim(thrown) : thrown, keys, values,
+                enabled);
+    }
+
+    private Throwable trim(final Throwable thrown) {
+        // References to fingerprinted exceptions have no stack trace to trim
+        return thrown == null || FingerprintingLogger.isReference(thrown) ? thrown : trimmer.trim(thrown);
+    }
+
+    /**
+     * Trims exceptions, and caches the trimmed copies by the identity of the exceptions.
+     */
+    static final class Trimmer {
+        private final String[] packages;
+        private final int depth;
+        private final int causes;
+        // Marks the exceptions with nothing to trim, as a value referencing its key would never be collected
+        private static final Throwable UNCHANGED = new Throwable();
+
+        // Throwable does not override equals(), so the keys are compared by identity
+        private final Map<Throwable, Throwable> trimmed = Collections.synchronizedMap(new WeakHashMap<>());
+
+        Trimmer(final List<String> packages, final int depth, final int causes) {
+            this.packages = packages.toArray(new String[0]);
+            this.depth = depth;
+            this.causes = causes;
+        }
+
+        /**
+         * Returns the trimmed copy of an exception.
+         *
+         * @param thrown the exception
+         *
+         * @return the copy, or the exception itself if there is nothing to trim
+         */
+        Throwable trim(final Throwable thrown) {
+            final Throwable cached = trimmed.get(thrown);
+            if (cached != null) {
+                return cached == UNCHANGED ? thrown : cached;
+            }
+            final Map<Throwable, StackTraceElement[]> stackTraces = new IdentityHashMap<>();
+            final Set<Throwable> omitted = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (!trim(thrown, 0, stackTraces, omitted)) {
+                trimmed.put(thrown, UNCHANGED);
+                return thrown;
+            }
+            final Throwable copy = ThrowableCopier.copy(thrown, omitted, stackTraces);
+            trimmed.put(thrown, copy);
+            return copy;
+        }
+
+        // Computes the trimmed stack traces, returns true if one of them differs from the original
+        private boolean trim(final Throwable thrown, final int index, final Map<Throwable, StackTraceElement[]> stackTraces,
+                final Set<Throwable> omitted) {
+            if (stackTraces.containsKey(thrown)) {
+                return false;
+            }
+            final StackTraceElement[] stackTrace = thrown.getStackTrace();
+            stackTraces.put(thrown, stackTrace);
+            final List<StackTraceElement> frames = frames(stackTrace);
+            boolean changed = false;
+            final Throwable cause = thrown.getCause();
+            if (cause != null) {
+                if (causes >= 0 && index >= causes) {
+                    // Counts the causes which are not kept
+                    final Set<Throwable> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+                    Throwable current = cause;
+                    while (current != null && counted.add(current)) {
+                        current = current.getCause();
+                    }
+                    omitted.add(cause);
+                    frames.add(new StackTraceElement("..", "", counted.size() + " causes omitted", -1));
+                    changed = true;
+                } else {
+                    changed = trim(cause, index + 1, stackTraces, omitted);
+                }
+            }
+            for (Throwable suppressed : thrown.getSuppressed()) {
+                changed |= trim(suppressed, index + 1, stackTraces, omitted);
+            }
+            final StackTraceElement[] trimmed = frames.toArray(new StackTraceElement[0]);
+            stackTraces.put(thrown, trimmed);
+            return changed || !Arrays.equals(trimmed, stackTrace);
+        }
+
+        private List<StackTraceElement> frames(final StackTraceElement[] stackTrace) {
+            final List<StackTraceElement> frames = new ArrayList<>();
+            int i = 0;
+            while (i < stackTrace.length) {
+                if (depth >= 0 && frames.size() >= depth) {
+                    frames.add(omitted(stackTrace.length - i));
+                    break;
+                }
+                int end = i;
+                while (end < stackTrace.length && collapsed(stackTrace[end].getClassName())) {
+                    end++;
+                }
+                // A single frame is kept, as the marker would not be shorter
+                if (end - i > 1) {
+                    frames.add(omitted(end - i));
+                    i = end;
+                } else {
+                    frames.add(stackTrace[i++]);
+                }
+            }
+            return frames;
+        }
+
+        private boolean collapsed(final String className) {
+            for (String prefix : packages) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static StackTraceElement omitted(final int count) {
+            // Rendered as "...(N frames omitted)"
+            return new StackTraceElement("..", "", count + " frames omitted", -1);
+        }
+    }
+}
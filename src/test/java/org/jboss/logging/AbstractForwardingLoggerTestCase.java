@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * The fixture of the tests of the loggers which wrap the loggers of the provider. Each test installs a new
+ * {@link CapturingLoggerProvider}. The wrappers are created with their configuration passed to their package-private
+ * constructors, so the tests do not depend on the system properties read when the wrapper classes are initialized.
+ */
+abstract class AbstractForwardingLoggerTestCase {
+    CapturingLoggerProvider provider;
+
+    @BeforeEach
+    public void setProvider() {
+        provider = new CapturingLoggerProvider(threshold());
+        LoggerProviders.setProvider(provider);
+    }
+
+    @AfterEach
+    public void resetProvider() {
+        LoggerProviders.reset();
+    }
+
+    /**
+     * Returns the most verbose level enabled by the loggers of the provider.
+     *
+     * @return the level
+     */
+    Logger.Level threshold() {
+        return Logger.Level.INFO;
+    }
+
+    /**
+     * Returns the logger of the provider named after the test class, wrapped by {@link #wrap(String, Logger)}.
+     *
+     * @return the logger
+     */
+    Logger getLogger() {
+        final String name = getClass().getName();
+        return wrap(name, provider.getLogger(name));
+    }
+
+    /**
+     * Wraps a logger of the provider with the logger under test.
+     *
+     * @param name   the name of the logger
+     * @param logger the logger of the provider
+     *
+     * @return the wrapped logger
+     */
+    Logger wrap(final String name, final Logger logger) {
+        return logger;
+    }
+}
@@ -18,6 +18,13 @@
 
 package org.jboss.logging;
 
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -87,11 +94,185 @@ abstract class AbstractLoggerTestCase {
         testLog("Test log level FATAL", Logger.Level.FATAL);
     }
 
+    @Test
+    public void testMdcScope() {
+        MDC.put("scope.key1", "outer");
+        try (MDC.Scope scope = MDC.with("scope.key1", "inner", "scope.key2", "value2")) {
+            Assertions.assertEquals("inner", MDC.get("scope.key1"));
+            Assertions.assertEquals("value2", MDC.get("scope.key2"));
+            try (MDC.Scope nested = MDC.scope(Map.of("scope.key2", "nested", "scope.key3", "value3"))) {
+                Assertions.assertEquals("nested", MDC.get("scope.key2"));
+                Assertions.assertEquals("value3", MDC.get("scope.key3"));
+            }
+            Assertions.assertEquals("value2", MDC.get("scope.key2"));
+            Assertions.assertNull(MDC.get("scope.key3"));
+        }
+        Assertions.assertEquals("outer", MDC.get("scope.key1"));
+        Assertions.assertNull(MDC.get("scope.key2"));
+    }
+
+    @Test
+    public void testMdcScopeRepeatedKey() {
+        MDC.put("repeated.key", "outer");
+        try (MDC.Scope scope = MDC.with("repeated.key", "first", "repeated.key", "second")) {
+            Assertions.assertEquals("second", MDC.get("repeated.key"));
+        }
+        Assertions.assertEquals("outer", MDC.get("repeated.key"));
+
+        MDC.remove("repeated.key");
+        try (MDC.Scope scope = MDC.with("repeated.key", null, "repeated.key", "value")) {
+            Assertions.assertEquals("value", MDC.get("repeated.key"));
+        }
+        Assertions.assertNull(MDC.get("repeated.key"));
+    }
+
+    @Test
+    public void testMdcSnapshot() {
+        MDC.put("snapshot.key", "value");
+        final Map<String, Object> snapshot = MDC.snapshot();
+        Assertions.assertEquals("value", snapshot.get("snapshot.key"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.put("snapshot.other", "value"));
+
+        // Later changes are not reflected in the snapshot
+        MDC.put("snapshot.key", "changed");
+        MDC.put("snapshot.other", "value");
+        Assertions.assertEquals("value", snapshot.get("snapshot.key"));
+        Assertions.assertFalse(snapshot.containsKey("snapshot.other"));
+        Assertions.assertEquals("changed", MDC.snapshot().get("snapshot.key"));
+    }
+
+    @Test
+    public void testMdcPutLazy() {
+        final int[] calls = new int[1];
+        MDC.putLazy("lazy.key", () -> {
+            calls[0]++;
+            return "value";
+        });
+        Assertions.assertEquals(0, calls[0]);
+        Assertions.assertEquals("value", MDC.get("lazy.key"));
+        Assertions.assertEquals("value", MDC.snapshot().get("lazy.key"));
+        Assertions.assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void testLoggingContext() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        // Start the worker thread first as some log managers copy the context to new threads
+        executor.submit(() -> null).get();
+
+        MDC.put("context.key", "value");
+        NDC.push("outer");
+        NDC.push("inner");
+        final String ndc = NDC.get();
+        final LoggingContext context = LoggingContext.capture();
+
+        // Later changes are not reflected in the context
+        MDC.put("context.key", "changed");
+        NDC.push("other");
+        final String otherNdc = NDC.get();
+
+        try {
+            final Callable<String> task = () -> MDC.get("context.key") + ":" + NDC.getDepth() + ":" + NDC.get();
+            Assertions.assertEquals("value:2:" + ndc, executor.submit(context.wrap(task)).get());
+            // The context of the worker thread is restored after the task
+            Assertions.assertEquals("null:0", executor.submit(() -> MDC.get("context.key") + ":" + NDC.getDepth()).get());
+
+            MDC.put("context.key", "propagated");
+            final Executor propagating = LoggingContext.wrap(executor);
+            final CompletableFuture<Object> result = new CompletableFuture<>();
+            propagating.execute(() -> result.complete(MDC.get("context.key") + ":" + NDC.getDepth() + ":" + NDC.get()));
+            Assertions.assertEquals("propagated:3:" + otherNdc, result.get());
+        } finally {
+            executor.shutdown();
+        }
+
+        try (LoggingContext.Scope ignored = context.restore()) {
+            Assertions.assertEquals("value", MDC.get("context.key"));
+            Assertions.assertEquals(2, NDC.getDepth());
+            Assertions.assertEquals(ndc, NDC.get());
+        }
+        Assertions.assertEquals("propagated", MDC.get("context.key"));
+        Assertions.assertEquals(3, NDC.getDepth());
+        Assertions.assertEquals(otherNdc, NDC.get());
+    }
+
+    @Test
+    public void testLoggingContextNotModified() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> null).get();
+        MDC.put("context.key", "value");
+        final LoggingContext context = LoggingContext.capture();
+        try {
+            // A task which changes the restored context does not change the captured context
+            executor.submit(context.wrap(() -> {
+                MDC.put("context.key", "changed");
+                MDC.remove("context.key");
+                return null;
+            })).get();
+            Assertions.assertEquals("value", executor.submit(context.wrap(() -> MDC.get("context.key"))).get());
+            MDC.clear();
+            Assertions.assertEquals("value", executor.submit(context.wrap(() -> MDC.get("context.key"))).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWith() {
+        final Logger child = getLogger().with("bound.key", "value");
+        Assertions.assertEquals(getLogger().getName(), child.getName());
+        Assertions.assertEquals(getLogger().isEnabled(Logger.Level.INFO), child.isEnabled(Logger.Level.INFO));
+        child.info("Bound message");
+        testLog("Bound message", Logger.Level.INFO);
+        // The field is not left on the mapped diagnostic context
+        Assertions.assertNull(MDC.get("bound.key"));
+    }
+
+    @Test
+    public void testLogBuilder() {
+        getLogger().atInfo().kv("fluent.key", "value").log("Fluent message");
+        testLog("Fluent message", Logger.Level.INFO);
+        getLogger().with("bound.key", "value").atWarn().log("Fluent bound message");
+        testLog("Fluent bound message", Logger.Level.WARN);
+
+        // A builder requested before the current builder has logged its message is not shared
+        final LogBuilder outer = getLogger().atInfo().kv("fluent.outer", "value");
+        getLogger().atError().kv("fluent.inner", "value").log("Inner message");
+        testLog("Inner message", Logger.Level.ERROR);
+        outer.log("Outer message");
+        testLog("Outer message", Logger.Level.INFO);
+        Assertions.assertNull(MDC.get("fluent.key"));
+    }
+
+    @Test
+    public void testLevelOverride() {
+        final Logger logger = Logger.getLogger(getLogger().getName() + ".override");
+        setLevel(logger.getName(), Logger.Level.INFO);
+        Assertions.assertFalse(logger.isDebugEnabled());
+        try (LevelOverride.Scope ignored = LevelOverride.enable(Logger.Level.DEBUG, getLogger().getName())) {
+            Assertions.assertTrue(logger.isDebugEnabled());
+            Assertions.assertFalse(logger.isTraceEnabled());
+            logger.debugf("Forced %s", "debug");
+            testLog("Forced debug", Logger.Level.DEBUG);
+            logger.debug("Forced message");
+            testLog("Forced message", Logger.Level.DEBUG);
+            logger.with("override.key", "value").debug("Forced bound message");
+            testLog("Forced bound message", Logger.Level.DEBUG);
+            logger.trace("Not forced");
+        }
+        Assertions.assertFalse(logger.isDebugEnabled());
+        logger.debug("Not forced");
+        logger.info("Not overridden");
+        testLog("Not overridden", Logger.Level.INFO);
+    }
+
     abstract void testLog(Logger.Level level);
 
     abstract void testLog(String msg, Logger.Level level);
 
     abstract Logger getLogger();
 
+    abstract void setLevel(String name, Logger.Level level);
+
     abstract Class<? extends Logger> getLoggerClass();
 }
@@ -0,0 +1,291 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncDispatcherTestCase {
+    private CapturingProvider provider;
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty(AsyncDispatcher.ASYNC_KEY, "block");
+    }
+
+    @AfterAll
+    public static void clearProperties() {
+        System.clearProperty(AsyncDispatcher.ASYNC_KEY);
+    }
+
+    @BeforeEach
+    public void setProvider() {
+        provider = new CapturingProvider();
+        LoggerProviders.setProvider(provider);
+    }
+
+    @AfterEach
+    public void resetProvider() {
+        provider.gate.countDown();
+        MDC.clear();
+        LoggerProviders.reset();
+    }
+
+    @Test
+    public void testAsyncLogger() {
+        final Logger logger = Logger.getLogger(AsyncDispatcherTestCase.class);
+        MDC.put("user", "test");
+        logger.infof("Message %d", 1);
+        MDC.remove("user");
+        logger.debug("Disabled");
+        AsyncDispatcher.INSTANCE.flush();
+        Assertions.assertEquals(List.of("INFO Message 1 user=test on jboss-logging-async"), provider.records);
+        Assertions.assertEquals(List.of(Thread.currentThread().getName()), provider.origins);
+    }
+
+    @Test
+    public void testOrigin() throws Exception {
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger("org.jboss.logging.origin");
+        final List<LogRecord> published = new CopyOnWriteArrayList<>();
+        final Handler handler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                published.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        julLogger.addHandler(handler);
+        try {
+            final LogEvent event = new LogEvent(null, new JDKLogger(julLogger.getName()), Logger.Level.INFO,
+                    Logger.class.getName(), LogEvent.FormatStyle.NO_FORMAT, "origin", null, null, null, null, false);
+            Thread.sleep(5);
+            CompletableFuture.runAsync(event::emit).get();
+            event.emit();
+            Assertions.assertEquals(2, published.size());
+            final LogRecord record = published.get(0);
+            Assertions.assertEquals(event.getInstant(), record.getInstant());
+            Assertions.assertEquals((int) Thread.currentThread().getId(), record.getThreadID());
+            Assertions.assertNull(record.getSourceClassName());
+            Assertions.assertTrue(published.get(1).getInstant().isAfter(event.getInstant()));
+        } finally {
+            julLogger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void testSynchronousBackend() {
+        final Logger logger = new EventLogger("test", null, new Logger("test") {
+            @Override
+            protected void doLog(final Level level, final String loggerClassName, final Object message,
+                    final Object[] parameters, final Throwable thrown) {
+                provider.write(level, String.valueOf(message), thrown);
+            }
+
+            @Override
+            protected void doLogf(final Level level, final String loggerClassName, final String format,
+                    final Object[] parameters, final Throwable thrown) {
+                provider.write(level, format, thrown);
+            }
+
+            @Override
+            public boolean isEnabled(final Level level) {
+                return true;
+            }
+        });
+        logger.info("Direct");
+        Assertions.assertEquals(List.of("INFO Direct on " + Thread.currentThread().getName()), provider.records);
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(2, AsyncDispatcher.Overflow.BLOCK);
+        try {
+            blockConsumer(dispatcher);
+            dispatcher.publish(event(Logger.Level.INFO, "1"));
+            dispatcher.publish(event(Logger.Level.INFO, "2"));
+            final Thread blocked = new Thread(() -> dispatcher.publish(event(Logger.Level.INFO, "3")));
+            blocked.start();
+            blocked.join(100);
+            Assertions.assertTrue(blocked.isAlive(), "The logging thread should wait while the buffer is full");
+
+            provider.gate.countDown();
+            blocked.join(5000);
+            dispatcher.flush();
+            Assertions.assertEquals(List.of("block", "1", "2", "3"), provider.messages());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDrop() throws Exception {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(2, AsyncDispatcher.Overflow.DROP);
+        try {
+            blockConsumer(dispatcher);
+            dispatcher.publish(event(Logger.Level.INFO, "1"));
+            dispatcher.publish(event(Logger.Level.INFO, "2"));
+            dispatcher.publish(event(Logger.Level.INFO, "3"));
+            final Thread blocked = new Thread(() -> dispatcher.publish(event(Logger.Level.ERROR, "4")));
+            blocked.start();
+            blocked.join(100);
+            Assertions.assertTrue(blocked.isAlive(), "Errors should not be dropped");
+
+            provider.gate.countDown();
+            blocked.join(5000);
+            dispatcher.flush();
+            Assertions.assertEquals(List.of("block", "1", "2", "4"), provider.messages());
+            Assertions.assertTrue(provider.records.stream().anyMatch(r -> r.contains("1 log messages were dropped")),
+                    () -> "The dropped messages were not reported: " + provider.records);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(2, AsyncDispatcher.Overflow.DROP_OLDEST);
+        try {
+            blockConsumer(dispatcher);
+            dispatcher.publish(event(Logger.Level.INFO, "1"));
+            dispatcher.publish(event(Logger.Level.ERROR, "2"));
+            dispatcher.publish(event(Logger.Level.INFO, "3"));
+            Assertions.assertEquals(List.of("block"), provider.messages());
+            // The oldest message is an error, so it is written by the logging thread rather than dropped
+            dispatcher.publish(event(Logger.Level.INFO, "4"));
+            Assertions.assertEquals(List.of("block", "2"), provider.messages());
+
+            provider.gate.countDown();
+            dispatcher.flush();
+            Assertions.assertEquals(List.of("block", "2", "3", "4"), provider.messages());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testReentrant() throws Exception {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(2, AsyncDispatcher.Overflow.BLOCK);
+        try {
+            // The consumer logs once the buffer is full, which only it can empty
+            provider.released = () -> dispatcher.publish(event(Logger.Level.INFO, "nested"));
+            blockConsumer(dispatcher);
+            dispatcher.publish(event(Logger.Level.INFO, "1"));
+            dispatcher.publish(event(Logger.Level.INFO, "2"));
+            provider.gate.countDown();
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), dispatcher::flush);
+            Assertions.assertEquals(List.of("block", "nested", "1", "2"), provider.messages());
+            Assertions.assertEquals("INFO nested on jboss-logging-async", provider.records.get(1));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testFlush() {
+        final Logger logger = Logger.getLogger(AsyncDispatcherTestCase.class);
+        for (int i = 0; i < 10; i++) {
+            logger.infof("Message %d", i);
+        }
+        LoggerProviders.flush();
+        Assertions.assertEquals(10, provider.records.size());
+    }
+
+    @Test
+    public void testShutdown() {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(16, AsyncDispatcher.Overflow.BLOCK);
+        for (int i = 0; i < 10; i++) {
+            dispatcher.publish(event(Logger.Level.INFO, Integer.toString(i)));
+        }
+        dispatcher.shutdown();
+        Assertions.assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), provider.messages());
+
+        dispatcher.publish(event(Logger.Level.INFO, "after"));
+        Assertions.assertEquals("INFO after on " + Thread.currentThread().getName(),
+                provider.records.get(provider.records.size() - 1));
+    }
+
+    private void blockConsumer(final AsyncDispatcher dispatcher) throws InterruptedException {
+        dispatcher.publish(event(Logger.Level.INFO, "block"));
+        Assertions.assertTrue(provider.blocked.await(5, TimeUnit.SECONDS));
+    }
+
+    private LogEvent event(final Logger.Level level, final String message) {
+        return new LogEvent(null, provider.getLogger("test"), level, Logger.class.getName(), LogEvent.FormatStyle.NO_FORMAT,
+                message, null, null, null, null, true);
+    }
+
+    private static class CapturingProvider extends CapturingLoggerProvider {
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final List<String> origins = new CopyOnWriteArrayList<>();
+        private volatile Runnable released;
+
+        @Override
+        List<String> messages() {
+            return records.stream()
+                    .filter(r -> !r.contains("were dropped"))
+                    .map(r -> r.substring(r.indexOf(' ') + 1, r.lastIndexOf(" on ")))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        void write(final Logger.Level level, final String message, final Throwable thrown) {
+            final LogEvent origin = LogEvent.origin();
+            if (origin != null) {
+                origins.add(origin.getThreadName());
+            }
+            final Object user = getMdc("user");
+            super.write(level, message + (user == null ? "" : " user=" + user) + " on " + Thread.currentThread().getName(),
+                    thrown);
+            if (message.equals("block")) {
+                blocked.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final Runnable released = this.released;
+                if (released != null) {
+                    released.run();
+                }
+            }
+        }
+    }
+}
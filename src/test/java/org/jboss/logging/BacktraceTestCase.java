@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BacktraceTestCase {
+    private CapturingProvider provider;
+    private Logger logger;
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty(BacktraceLogger.BACKTRACE_KEY, "3");
+    }
+
+    @AfterAll
+    public static void clearProperties() {
+        System.clearProperty(BacktraceLogger.BACKTRACE_KEY);
+    }
+
+    @BeforeEach
+    public void setProvider() {
+        provider = new CapturingProvider();
+        LoggerProviders.setProvider(provider);
+        logger = Logger.getLogger(BacktraceTestCase.class);
+    }
+
+    @AfterEach
+    public void resetProvider() {
+        LoggerProviders.reset();
+    }
+
+    @Test
+    public void testWrittenBeforeError() {
+        for (int i = 1; i <= 5; i++) {
+            logger.tracef("Trace %d", i);
+        }
+        logger.debugv("Debug {0}", "formatted");
+        logger.info("Info");
+        Assertions.assertEquals(List.of("INFO Info"), provider.records);
+
+        logger.error("Failed");
+        Assertions.assertEquals(List.of("INFO Info", "TRACE Trace 4", "TRACE Trace 5", "DEBUG Debug formatted",
+                "ERROR Failed"), provider.records);
+
+        // The buffer is emptied when it is written
+        logger.error("Failed again");
+        Assertions.assertEquals("ERROR Failed again", provider.records.get(provider.records.size() - 1));
+        Assertions.assertEquals(6, provider.records.size());
+    }
+
+    @Test
+    public void testFormattedWhenWritten() {
+        final Object parameter = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("The parameter should not be formatted");
+            }
+        };
+        logger.debugf("Not formatted %s", parameter);
+        logger.warn("Warning");
+        Assertions.assertEquals(List.of("WARN Warning"), provider.records);
+    }
+
+    @Test
+    public void testPerThread() throws Exception {
+        final Thread thread = new Thread(() -> logger.debug("Other thread"));
+        thread.start();
+        thread.join();
+        logger.fatal("Failed");
+        Assertions.assertEquals(List.of("FATAL Failed"), provider.records);
+    }
+
+    @Test
+    public void testFields() {
+        logger.with("key", "value").trace("Bound");
+        logger.error("Failed");
+        Assertions.assertEquals(List.of("TRACE Bound key=value", "ERROR Failed"), provider.records);
+    }
+
+    @Test
+    public void testGuardsReportLevel() {
+        Assertions.assertFalse(logger.isDebugEnabled());
+        Assertions.assertFalse(logger.isTraceEnabled());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Guarded");
+        }
+        logger.debug("Unguarded");
+        logger.error("Failed");
+        Assertions.assertEquals(List.of("DEBUG Unguarded", "ERROR Failed"), provider.records);
+        // The override only applies while the buffer is written
+        Assertions.assertFalse(logger.isDebugEnabled());
+    }
+
+    private static class CapturingProvider extends CapturingLoggerProvider {
+        @Override
+        void write(final Logger.Level level, final String message, final Throwable thrown) {
+            final Object value = getMdc("key");
+            super.write(level, message + (value == null ? "" : " key=" + value), thrown);
+        }
+    }
+}
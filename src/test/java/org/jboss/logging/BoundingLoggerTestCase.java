@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringFormattedMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BoundingLoggerTestCase extends AbstractForwardingLoggerTestCase {
+
+    @Override
+    Logger.Level threshold() {
+        return Logger.Level.TRACE;
+    }
+
+    @Override
+    Logger wrap(final String name, final Logger logger) {
+        return new BoundingLogger(name, logger, new BoundingLogger.Bounds(20, 30, 2));
+    }
+
+    @Test
+    public void testParameterLength() {
+        final Logger logger = getLogger();
+        logger.infof("Body %s", "x".repeat(1000));
+        logger.infov("Body {0}", "y".repeat(1000));
+        Assertions.assertEquals(List.of("Body " + "x".repeat(20) + "...", "Body " + "y".repeat(20) + "..."),
+                provider.messages());
+    }
+
+    @Test
+    public void testMessageLength() {
+        final Logger logger = getLogger();
+        logger.infof("%s %s %s", "a".repeat(15), "b".repeat(15), "c".repeat(15));
+        Assertions.assertEquals(List.of("a".repeat(15) + " " + "b".repeat(15) + " ..."), provider.messages());
+    }
+
+    @Test
+    public void testElements() {
+        final Logger logger = getLogger();
+        final List<Object> list = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        logger.infof("%s", list);
+        logger.infof("%s", map);
+        logger.infof("%s", (Object) new int[] { 1, 2 });
+        list.add(list);
+        logger.infof("%s", list);
+        Assertions.assertEquals(List.of("[1, 2, ... 3 more]", "{a=1, b=2}", "[1, 2]", "[1, 2, ... 4 more]"),
+                provider.messages());
+    }
+
+    @Test
+    public void testUnchanged() {
+        final Logger logger = getLogger();
+        logger.infof("%d %.1f %s", 42, 1.5D, "short");
+        logger.infov("{0,number,#} {1}", 42L, Logger.Level.INFO);
+        Assertions.assertEquals(List.of("42 1.5 short", "42 INFO"), provider.messages());
+    }
+
+    @Test
+    public void testCycle() {
+        final BoundingLogger.Bounds bounds = new BoundingLogger.Bounds(Integer.MAX_VALUE, Integer.MAX_VALUE, 10);
+        final List<Object> first = new ArrayList<>();
+        final List<Object> second = new ArrayList<>();
+        final List<Object> third = new ArrayList<>();
+        first.add(second);
+        second.add(first);
+        Assertions.assertEquals("[[(this Collection)]]", bounds.bound(new Object[] { first })[0].toString());
+        second.set(0, third);
+        third.add(second);
+        Assertions.assertEquals("[[[[[[[[...]]]]]]]]", bounds.bound(new Object[] { first })[0].toString());
+    }
+
+    @Test
+    public void testLog4j2Parameters() {
+        final BoundingLogger.Bounds bounds = new BoundingLogger.Bounds(3, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        final List<Integer> list = List.of(1, 2, 3);
+        final Object[] parameters = bounds.bound(new Object[] { "abcdef", list, 42 });
+        final Message message = Log4j2BoundedMessage.of(new StringFormattedMessage("%s %s %d", parameters), parameters);
+        Assertions.assertEquals("abc... [1,... 42", message.getFormattedMessage());
+        Assertions.assertArrayEquals(new Object[] { "abcdef", list, 42 }, message.getParameters());
+        final Object[] unchanged = { 42 };
+        final Message plain = new StringFormattedMessage("%d", unchanged);
+        Assertions.assertSame(plain, Log4j2BoundedMessage.of(plain, unchanged));
+    }
+
+    @Test
+    public void testLog4j2Serialization() throws Exception {
+        final BoundingLogger.Bounds bounds = new BoundingLogger.Bounds(3, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        final Object[] parameters = bounds.bound(new Object[] { "abcdef", new Object() });
+        final Message message = Log4j2BoundedMessage.of(new StringFormattedMessage("%s %s", parameters), parameters);
+        final String formatted = message.getFormattedMessage();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        final Message copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Message) in.readObject();
+        }
+        Assertions.assertEquals(formatted, copy.getFormattedMessage());
+        Assertions.assertEquals(2, copy.getParameters().length);
+    }
+}
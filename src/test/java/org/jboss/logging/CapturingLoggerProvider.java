@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * A provider which records the messages written by its loggers as {@code "LEVEL message"} along with the exception
+ * logged with each message. Like the log managers, its loggers write the messages forced by a {@link LevelOverride}.
+ * Tests which need more of the context of a message override {@link #write}.
+ */
+class CapturingLoggerProvider extends AbstractMdcLoggerProvider implements LoggerProvider {
+    final List<String> records = new CopyOnWriteArrayList<>();
+    final List<Throwable> thrown = new CopyOnWriteArrayList<>();
+    private final Logger.Level threshold;
+
+    CapturingLoggerProvider() {
+        this(Logger.Level.INFO);
+    }
+
+    /**
+     * Creates a provider whose loggers are enabled for the given level and all levels more severe.
+     *
+     * @param threshold the most verbose level enabled
+     */
+    CapturingLoggerProvider(final Logger.Level threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Logger getLogger(final String name) {
+        return new Logger(name) {
+            @Override
+            protected void doLog(final Level level, final String loggerClassName, final Object message,
+                    final Object[] parameters, final Throwable thrown) {
+                if (isEnabled(level)) {
+                    write(level, parameters == null || parameters.length == 0 ? String.valueOf(message)
+                            : MessageFormat.format(String.valueOf(message), parameters), thrown);
+                }
+            }
+
+            @Override
+            protected void doLogf(final Level level, final String loggerClassName, final String format,
+                    final Object[] parameters, final Throwable thrown) {
+                if (isEnabled(level)) {
+                    write(level, parameters == null ? format : String.format(format, parameters), thrown);
+                }
+            }
+
+            @Override
+            public boolean isEnabled(final Level level) {
+                return level.compareTo(threshold) <= 0 || LevelOverride.isForced(level, getName());
+            }
+
+            @Override
+            boolean writesOrigin() {
+                // The tests read the thread which logged a message with LogEvent.origin()
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the recorded messages without their level.
+     *
+     * @return the recorded messages
+     */
+    List<String> messages() {
+        return records.stream()
+                .map(r -> r.substring(r.indexOf(' ') + 1))
+                .collect(Collectors.toList());
+    }
+
+    void write(final Logger.Level level, final String message, final Throwable thrown) {
+        records.add(level + " " + message);
+        this.thrown.add(thrown);
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 public class CustomProviderTestCase {
+    private static boolean unusedProviderInitialized;
 
     @Test
     public void testLogger() {
@@ -32,6 +33,13 @@ public class CustomProviderTestCase {
         Assertions.assertEquals(TestLogger.class, logger.getClass());
     }
 
+    @Test
+    public void testPriority() {
+        Logger.getLogger(CustomProviderTestCase.class);
+        Assertions.assertFalse(unusedProviderInitialized, "The provider with the lower priority should not be initialized");
+    }
+
+    @LoggerProvider.Priority(10)
     public static class TestProvider extends AbstractMdcLoggerProvider implements LoggerProvider {
 
         @Override
@@ -40,6 +48,18 @@ public class CustomProviderTestCase {
         }
     }
 
+    @LoggerProvider.Priority(-10)
+    public static class UnusedProvider extends AbstractMdcLoggerProvider implements LoggerProvider {
+        static {
+            unusedProviderInitialized = true;
+        }
+
+        @Override
+        public Logger getLogger(final String name) {
+            throw new IllegalStateException("This provider should not be used");
+        }
+    }
+
     static class TestLogger extends Logger {
 
         /**
@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DeduplicatingLoggerTestCase extends AbstractForwardingLoggerTestCase {
+    private final DeduplicatingLogger.Table table = new DeduplicatingLogger.Table(4096,
+            TimeUnit.MILLISECONDS.toNanos(200));
+
+    @Override
+    Logger wrap(final String name, final Logger logger) {
+        return new DeduplicatingLogger(name, logger, table);
+    }
+
+    @Test
+    public void testRepeatsSuppressed() throws Exception {
+        final Logger logger = getLogger();
+        for (int i = 0; i < 5; i++) {
+            logger.infof("Connection to %s failed", "db");
+            logger.debugf("Connection to %s failed", "db");
+        }
+        logger.infof("Connection to %s failed", "cache");
+        logger.warnf("Connection to %s failed", "db");
+        logger.infof(new IllegalStateException(), "Connection to %s failed", "db");
+        Assertions.assertEquals(List.of("INFO Connection to db failed", "INFO Connection to cache failed",
+                "WARN Connection to db failed", "INFO Connection to db failed"), provider.records);
+
+        TimeUnit.MILLISECONDS.sleep(250);
+        logger.info("Connected");
+        // The table is not swept, the summary is written by the next message
+        final List<String> records = provider.records.subList(4, provider.records.size());
+        Assertions.assertEquals(2, records.size(), records.toString());
+        final String summary = records.get(records.get(0).equals("INFO Connected") ? 1 : 0);
+        Assertions.assertTrue(summary.startsWith("INFO The following message was repeated 4 more times"), summary);
+        Assertions.assertTrue(summary.endsWith(": Connection to db failed"), summary);
+        Assertions.assertTrue(records.contains("INFO Connected"), records.toString());
+    }
+
+    @Test
+    public void testSweptWhenQuiet() throws Exception {
+        final Logger parent = provider.getLogger(getClass().getName());
+        final Logger logger = new DeduplicatingLogger(parent.getName(), parent,
+                DeduplicatingLogger.create(4096, TimeUnit.MILLISECONDS.toNanos(200)));
+        logger.info("Quiet");
+        logger.info("Quiet");
+        // The window closes after 200 ms and the sweeper runs every 200 ms
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (provider.records.size() < 2 && System.nanoTime() - deadline < 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Assertions.assertEquals(2, provider.records.size());
+        Assertions.assertTrue(provider.records.get(1).contains("repeated 1 more times"), provider.records.get(1));
+    }
+
+    @Test
+    public void testFlush() {
+        final Logger logger = getLogger();
+        logger.info("Flushed");
+        logger.info("Flushed");
+        logger.info("Flushed");
+        table.flush();
+        Assertions.assertEquals(2, provider.records.size());
+        Assertions.assertTrue(provider.records.get(1).contains("repeated 2 more times"), provider.records.get(1));
+        logger.info("Flushed");
+        Assertions.assertEquals("INFO Flushed", provider.records.get(2));
+    }
+
+    @Test
+    public void testBoundFields() {
+        final Logger logger = getLogger();
+        logger.with("user", "admin").info("Login failed");
+        logger.with("host", "admin").info("Login failed");
+        logger.with("host", "admin").info("Login failed");
+        Assertions.assertEquals(List.of("INFO Login failed", "INFO Login failed"), provider.records);
+    }
+
+    @Test
+    public void testFailingParameter() {
+        final Logger logger = getLogger();
+        final Object parameter = new Object() {
+            @Override
+            public int hashCode() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public String toString() {
+                return "unhashable";
+            }
+        };
+        logger.infov("Value {0}", parameter);
+        logger.infov("Value {0}", parameter);
+        Assertions.assertEquals(List.of("INFO Value unhashable", "INFO Value unhashable"), provider.records);
+    }
+
+    @Test
+    public void testNextWindow() throws Exception {
+        final Logger logger = getLogger();
+        logger.info("Retrying");
+        logger.info("Retrying");
+        TimeUnit.MILLISECONDS.sleep(250);
+        logger.info("Retrying");
+        Assertions.assertEquals(3, provider.records.size());
+        Assertions.assertEquals("INFO Retrying", provider.records.get(0));
+        Assertions.assertTrue(provider.records.get(1).contains("repeated 1 more times"), provider.records.get(1));
+        Assertions.assertEquals("INFO Retrying", provider.records.get(2));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final Logger parent = provider.getLogger(getClass().getName());
+        final Logger logger = new DeduplicatingLogger(parent.getName(), parent,
+                new DeduplicatingLogger.Table(64, TimeUnit.HOURS.toNanos(1)));
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    logger.infov("Reconnecting to {0}", "db");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(List.of("INFO Reconnecting to db"), provider.records);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FingerprintingLoggerTestCase extends AbstractForwardingLoggerTestCase {
+    private final FingerprintingLogger.Cache cache = new FingerprintingLogger.Cache(1024, 5, TimeUnit.MINUTES.toNanos(1));
+
+    @Override
+    Logger wrap(final String name, final Logger logger) {
+        return new FingerprintingLogger(name, logger, cache);
+    }
+
+    @Test
+    public void testReference() {
+        final Logger logger = getLogger();
+        for (int i = 0; i < 3; i++) {
+            logger.error("Read failed", fail("Connection reset " + i));
+        }
+        Assertions.assertEquals(3, provider.thrown.size());
+        Assertions.assertInstanceOf(IOException.class, provider.thrown.get(0));
+        for (int i = 1; i < 3; i++) {
+            final Throwable reference = provider.thrown.get(i);
+            Assertions.assertEquals("java.io.IOException: Connection reset " + i, reference.toString());
+            Assertions.assertTrue(FingerprintingLogger.isReference(reference));
+            Assertions.assertEquals("Connection reset " + i, reference.getMessage());
+            Assertions.assertNull(reference.getCause());
+            Assertions.assertEquals(1, reference.getStackTrace().length);
+            final String frame = reference.getStackTrace()[0].toString();
+            Assertions.assertTrue(frame.startsWith("...(stack trace "), frame);
+            Assertions.assertTrue(frame.endsWith(", " + i + " occurrences since)"), frame);
+        }
+    }
+
+    @Test
+    public void testCauses() {
+        final Logger logger = getLogger();
+        for (int i = 0; i < 3; i++) {
+            // The causes differ only in type, as they are created on the same line
+            logger.error("Read failed", wrap(i == 1 ? new IllegalStateException() : new IOException()));
+        }
+        Assertions.assertEquals(3, provider.thrown.size());
+        Assertions.assertFalse(FingerprintingLogger.isReference(provider.thrown.get(0)));
+        Assertions.assertFalse(FingerprintingLogger.isReference(provider.thrown.get(1)));
+        Assertions.assertTrue(FingerprintingLogger.isReference(provider.thrown.get(2)));
+        Assertions.assertEquals("java.lang.RuntimeException: Request failed", provider.thrown.get(2).toString());
+    }
+
+    @Test
+    public void testDistinctSites() {
+        final Logger logger = getLogger();
+        logger.error("Read failed", fail("First"));
+        logger.error("Read failed", new IOException("Second"));
+        logger.error("Read failed", new IllegalStateException("Third"));
+        logger.debug("Disabled", fail("Disabled"));
+        Assertions.assertEquals(3, provider.thrown.size());
+        for (Throwable thrown : provider.thrown) {
+            Assertions.assertFalse(FingerprintingLogger.isReference(thrown), thrown.toString());
+        }
+    }
+
+    @Test
+    public void testNotSerializable() {
+        final FingerprintingLogger.Cache cache = new FingerprintingLogger.Cache(16, 5, TimeUnit.HOURS.toNanos(1));
+        for (int i = 0; i < 2; i++) {
+            final Throwable thrown = new NotSerializableException(new Object());
+            final Throwable logged = cache.reference(thrown);
+            Assertions.assertEquals(i == 1, FingerprintingLogger.isReference(logged));
+        }
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        final FingerprintingLogger.Cache cache = new FingerprintingLogger.Cache(16, 1, TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertInstanceOf(IOException.class, cache.reference(fail("First")));
+        Assertions.assertTrue(FingerprintingLogger.isReference(cache.reference(fail("Second"))));
+        TimeUnit.MILLISECONDS.sleep(150);
+        Assertions.assertInstanceOf(IOException.class, cache.reference(fail("Third")));
+    }
+
+    @Test
+    public void testEviction() {
+        final FingerprintingLogger.Cache cache = new FingerprintingLogger.Cache(1, 5, TimeUnit.HOURS.toNanos(1));
+        Assertions.assertInstanceOf(IOException.class, cache.reference(fail("First")));
+        Assertions.assertInstanceOf(IllegalStateException.class, cache.reference(new IllegalStateException()));
+        Assertions.assertInstanceOf(IOException.class, cache.reference(fail("Evicted")));
+    }
+
+    @Test
+    public void testStripes() throws Exception {
+        final FingerprintingLogger.Cache cache = new FingerprintingLogger.Cache(1024, 1, TimeUnit.HOURS.toNanos(1));
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.reference(fail("Concurrent"));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        final Throwable reference = cache.reference(fail("Last"));
+        Assertions.assertTrue(reference.getStackTrace()[0].toString().endsWith(", 4000 occurrences since)"),
+                reference.getStackTrace()[0].toString());
+    }
+
+    private static IOException fail(final String message) {
+        return new IOException(message);
+    }
+
+    private static RuntimeException wrap(final Throwable cause) {
+        return new RuntimeException("Request failed", cause);
+    }
+
+    private static class NotSerializableException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        @SuppressWarnings({ "unused", "serial" })
+        private final Object state;
+
+        NotSerializableException(final Object state) {
+            this.state = state;
+        }
+
+        private void writeObject(final java.io.ObjectOutputStream out) {
+            throw new AssertionError("The exception should not be serialized");
+        }
+    }
+}
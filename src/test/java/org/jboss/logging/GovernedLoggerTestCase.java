@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GovernedLoggerTestCase extends AbstractForwardingLoggerTestCase {
+
+    @Override
+    Logger wrap(final String name, final Logger logger) {
+        return new GovernedLogger(name, logger, new GovernedLogger.Governor(100000, TimeUnit.SECONDS.toNanos(1), 10));
+    }
+
+    @Test
+    public void testEnabled() {
+        final Logger logger = getLogger();
+        Assertions.assertTrue(logger.isInfoEnabled());
+        Assertions.assertFalse(logger.isDebugEnabled());
+        logger.info("Logged");
+        Assertions.assertEquals(List.of("INFO Logged"), provider.records);
+    }
+
+    @Test
+    public void testShedding() throws Exception {
+        final GovernedLogger.Governor governor = new GovernedLogger.Governor(10, TimeUnit.MILLISECONDS.toNanos(50), 2);
+        final Logger parent = provider.getLogger(getClass().getName());
+        final Logger logger = new GovernedLogger(parent.getName(), parent, governor);
+
+        // The first storm discards the messages below WARN
+        flood(logger, Logger.Level.INFO);
+        Assertions.assertEquals(Logger.Level.WARN, governor.level());
+        Assertions.assertFalse(logger.isInfoEnabled());
+        Assertions.assertTrue(logger.isEnabled(Logger.Level.WARN));
+        Assertions.assertTrue(provider.records.stream()
+                .anyMatch(r -> r.startsWith("WARN The rate of 101 messages per second exceeds the budget of 10")),
+                provider.records.toString());
+        provider.records.clear();
+        logger.info("Discarded");
+        Assertions.assertEquals(List.of(), provider.records);
+
+        // A storm of warnings discards the messages below ERROR
+        flood(logger, Logger.Level.WARN);
+        Assertions.assertEquals(Logger.Level.ERROR, governor.level());
+        Assertions.assertFalse(logger.isEnabled(Logger.Level.WARN));
+        Assertions.assertTrue(logger.isEnabled(Logger.Level.FATAL));
+
+        // The levels are restored one at a time once the rate stays low, even if only discarded messages are logged
+        provider.records.clear();
+        TimeUnit.MILLISECONDS.sleep(120);
+        logger.warn("Quiet");
+        Assertions.assertEquals(Logger.Level.WARN, governor.level());
+        TimeUnit.MILLISECONDS.sleep(120);
+        logger.info("Quiet");
+        Assertions.assertEquals(Logger.Level.TRACE, governor.level());
+        Assertions.assertTrue(logger.isInfoEnabled());
+        Assertions.assertTrue(provider.records.stream().anyMatch(r -> r.startsWith("INFO The rate of")),
+                provider.records.toString());
+    }
+
+    @Test
+    public void testDiscardedMessagesCounted() throws Exception {
+        final GovernedLogger.Governor governor = new GovernedLogger.Governor(10, TimeUnit.MILLISECONDS.toNanos(50), 2);
+        final Logger parent = provider.getLogger(getClass().getName());
+        final Logger logger = new GovernedLogger(parent.getName(), parent, governor);
+        flood(logger, Logger.Level.INFO);
+        Assertions.assertEquals(Logger.Level.WARN, governor.level());
+
+        // The storm goes on with discarded messages only, so the level is neither restored nor raised
+        for (int i = 0; i < 3; i++) {
+            TimeUnit.MILLISECONDS.sleep(60);
+            for (int j = 0; j < 100; j++) {
+                logger.info("Storm");
+            }
+        }
+        TimeUnit.MILLISECONDS.sleep(60);
+        Assertions.assertFalse(logger.isInfoEnabled());
+        Assertions.assertEquals(Logger.Level.WARN, governor.level());
+
+        // A guard checked after the storm restores the level without any message being logged
+        TimeUnit.MILLISECONDS.sleep(120);
+        Assertions.assertFalse(logger.isInfoEnabled());
+        Assertions.assertEquals(Logger.Level.TRACE, governor.level());
+        Assertions.assertTrue(logger.isInfoEnabled());
+    }
+
+    private static void flood(final Logger logger, final Logger.Level level) throws InterruptedException {
+        // The rate is evaluated by the first message of the next period
+        TimeUnit.MILLISECONDS.sleep(60);
+        logger.log(level, "Start");
+        for (int i = 0; i < 100; i++) {
+            logger.log(level, "Storm");
+        }
+        TimeUnit.MILLISECONDS.sleep(60);
+        logger.log(level, "Next");
+    }
+}
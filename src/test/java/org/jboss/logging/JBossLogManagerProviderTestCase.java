@@ -25,6 +25,8 @@ import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
+import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.LogContextSelector;
 import org.junit.jupiter.api.AfterAll;
@@ -82,6 +84,31 @@ public class JBossLogManagerProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value", org.jboss.logmanager.MDC.get("test.key"));
     }
 
+    @Test
+    public void testWithFields() {
+        org.jboss.logmanager.MDC.put("bound.other", "thread");
+        logger.with("bound.key", "value", "bound.other", null).infof("Bound %s", "message");
+        final ExtLogRecord record = (ExtLogRecord) handler.queue.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Bound message", formatMessage(record));
+        Assertions.assertEquals("value", record.getMdc("bound.key"));
+        Assertions.assertNull(record.getMdc("bound.other"));
+        Assertions.assertEquals(getClass().getName(), record.getSourceClassName());
+        Assertions.assertNull(org.jboss.logmanager.MDC.get("bound.key"));
+        Assertions.assertEquals("thread", org.jboss.logmanager.MDC.get("bound.other"));
+    }
+
+    @Test
+    public void testLogBuilderFields() {
+        logger.with("bound.key", "value").atInfo().kv("fluent.key", 2).logf("Fluent %s", "message");
+        final ExtLogRecord record = (ExtLogRecord) handler.queue.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Fluent message", formatMessage(record));
+        Assertions.assertEquals("value", record.getMdc("bound.key"));
+        Assertions.assertEquals("2", record.getMdc("fluent.key"));
+        Assertions.assertEquals(getClass().getName(), record.getSourceClassName());
+    }
+
     @Test
     public void testNdc() {
         NDC.push("value1");
@@ -125,11 +152,25 @@ public class JBossLogManagerProviderTestCase extends AbstractLoggerTestCase {
         return logger;
     }
 
+    @Override
+    void setLevel(final String name, final Logger.Level level) {
+        logContext.getLogger(name).setLevel(org.jboss.logmanager.Level.parse(level.name()));
+    }
+
     @Override
     Class<? extends Logger> getLoggerClass() {
         return JBossLogManagerLogger.class;
     }
 
+    private static String formatMessage(final ExtLogRecord record) {
+        return new ExtFormatter() {
+            @Override
+            public String format(final ExtLogRecord record) {
+                return formatMessage(record);
+            }
+        }.format(record);
+    }
+
     private static TestHandler createHandler(final LogContext logContext, final String loggerName) {
         final TestHandler handler = new TestHandler();
         final java.util.logging.Logger julLogger = logContext.getLogger(loggerName);
@@ -143,6 +184,8 @@ public class JBossLogManagerProviderTestCase extends AbstractLoggerTestCase {
 
         @Override
         public void publish(final LogRecord record) {
+            // The caller is resolved from the stack, so it must be resolved while the message is logged
+            record.getSourceClassName();
             queue.add(record);
         }
 
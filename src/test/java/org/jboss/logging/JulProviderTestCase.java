@@ -20,6 +20,7 @@ package org.jboss.logging;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -60,6 +61,28 @@ public class JulProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value", MDC.get("test.key"));
     }
 
+    @Test
+    public void testFormattingDeferred() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Object parameter = new Object() {
+            @Override
+            public String toString() {
+                calls.incrementAndGet();
+                return "parameter";
+            }
+        };
+        // Log managers which copy foreign records, such as the JBoss Log Manager, read the message when it is logged
+        final LogRecord record = new JBossLogRecord(Level.INFO,
+                DeferredMessage.printf("Deferred %s", new Object[] { parameter }),
+                getClass().getName());
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals("Deferred parameter", record.getMessage());
+        Assertions.assertEquals("Deferred parameter", record.getMessage());
+        Assertions.assertEquals(1, calls.get());
+        record.setMessage("Replaced");
+        Assertions.assertEquals("Replaced", record.getMessage());
+    }
+
     @Test
     public void testNdc() {
         NDC.push("value1");
@@ -74,6 +97,35 @@ public class JulProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value1", NDC.get());
     }
 
+    @Test
+    public void testNdcMerged() {
+        NDC.push("value1");
+        NDC.push("value2");
+        Assertions.assertEquals("value1 value2", NDC.get());
+        // The rendered parent is reused by the entries pushed onto it
+        NDC.push("value3");
+        NDC.push("value4");
+        Assertions.assertEquals("value1 value2 value3 value4", NDC.get());
+        final LoggingContext context = LoggingContext.capture();
+
+        NDC.setMaxDepth(2);
+        Assertions.assertEquals(2, NDC.getDepth());
+        Assertions.assertEquals("value1 value2", NDC.get());
+        NDC.push("other");
+        Assertions.assertEquals("value1 value2 other", NDC.get());
+
+        try (LoggingContext.Scope scope = context.restore()) {
+            Assertions.assertEquals(4, NDC.getDepth());
+            Assertions.assertEquals("value1 value2 value3 value4", NDC.get());
+            Assertions.assertEquals("value4", NDC.pop());
+            Assertions.assertEquals("value1 value2 value3", NDC.get());
+        }
+        Assertions.assertEquals("value1 value2 other", NDC.get());
+        NDC.clear();
+        Assertions.assertEquals(0, NDC.getDepth());
+        Assertions.assertNull(NDC.get());
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
@@ -96,6 +148,11 @@ public class JulProviderTestCase extends AbstractLoggerTestCase {
         return logger;
     }
 
+    @Override
+    void setLevel(final String name, final Logger.Level level) {
+        java.util.logging.Logger.getLogger(name).setLevel(org.jboss.logmanager.Level.parse(level.name()));
+    }
+
     @Override
     Class<? extends Logger> getLoggerClass() {
         return JDKLogger.class;
@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LevelOverrideTestCase {
+
+    @AfterEach
+    public void clear() {
+        LevelOverride.clear();
+    }
+
+    @Test
+    public void testCloseOnOtherThread() throws Exception {
+        final LevelOverride.Scope scope = LevelOverride.enable(Logger.Level.DEBUG);
+        final Throwable thrown = CompletableFuture.supplyAsync(() -> {
+            try {
+                scope.close();
+                return null;
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        }).get();
+        Assertions.assertInstanceOf(IllegalStateException.class, thrown);
+        Assertions.assertTrue(LevelOverride.isForced(Logger.Level.DEBUG, "org.acme"));
+        scope.close();
+        Assertions.assertFalse(LevelOverride.isForced(Logger.Level.DEBUG, "org.acme"));
+    }
+
+    @Test
+    public void testNested() {
+        try (LevelOverride.Scope ignored = LevelOverride.enable(Logger.Level.DEBUG)) {
+            try (LevelOverride.Scope nested = LevelOverride.enable(Logger.Level.TRACE, "org.acme")) {
+                Assertions.assertTrue(LevelOverride.isForced(Logger.Level.TRACE, "org.acme.Service"));
+                Assertions.assertFalse(LevelOverride.isForced(Logger.Level.DEBUG, "org.other"));
+            }
+            Assertions.assertFalse(LevelOverride.isForced(Logger.Level.TRACE, "org.acme.Service"));
+            Assertions.assertTrue(LevelOverride.isForced(Logger.Level.DEBUG, "org.other"));
+        }
+        Assertions.assertNull(LevelOverride.current());
+    }
+
+    @Test
+    public void testClear() {
+        LevelOverride.enable(Logger.Level.DEBUG);
+        Assertions.assertNotNull(LevelOverride.current());
+        LevelOverride.clear();
+        Assertions.assertNull(LevelOverride.current());
+        Assertions.assertFalse(LevelOverride.isForced(Logger.Level.DEBUG, "org.acme"));
+    }
+
+    @Test
+    public void testThreadEndedWithOverride() throws Exception {
+        final int active = LevelOverride.ACTIVE.get();
+        final Thread thread = new Thread(() -> LevelOverride.enable(Logger.Level.DEBUG));
+        thread.start();
+        thread.join();
+        // The override of the thread stops counting once the thread local of the ended thread is collected
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (LevelOverride.ACTIVE.get() != active && System.nanoTime() - deadline < 0) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Assertions.assertEquals(active, LevelOverride.ACTIVE.get());
+    }
+}
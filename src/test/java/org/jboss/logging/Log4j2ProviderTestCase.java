@@ -30,11 +30,13 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Configurator;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.MapMessage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +92,31 @@ public class Log4j2ProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals(1, ThreadContext.getDepth());
     }
 
+    @Test
+    public void testWithFields() {
+        logger.with("bound.key", "value").with("bound.key", "replaced", "bound.other", 1).infof("Bound %s", "message");
+        final LogEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals("Bound message", event.getMessage().getFormattedMessage());
+        final MapMessage<?, ?> message = Assertions.assertInstanceOf(MapMessage.class, event.getMessage());
+        Assertions.assertEquals("replaced", message.get("bound.key"));
+        Assertions.assertEquals("1", message.get("bound.other"));
+        Assertions.assertFalse(event.getContextData().containsKey("bound.key"));
+    }
+
+    @Test
+    public void testLogBuilderFields() {
+        final RuntimeException cause = new RuntimeException();
+        logger.with("bound.key", "value").atInfo().kv("fluent.key", 2).cause(cause).logv("Fluent {0}", "message");
+        final LogEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals("Fluent message", event.getMessage().getFormattedMessage());
+        Assertions.assertSame(cause, event.getThrown());
+        final MapMessage<?, ?> message = Assertions.assertInstanceOf(MapMessage.class, event.getMessage());
+        Assertions.assertEquals("value", message.get("bound.key"));
+        Assertions.assertEquals("2", message.get("fluent.key"));
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
@@ -112,6 +139,11 @@ public class Log4j2ProviderTestCase extends AbstractLoggerTestCase {
         return logger;
     }
 
+    @Override
+    void setLevel(final String name, final Logger.Level level) {
+        Configurator.setLevel(name, org.apache.logging.log4j.Level.toLevel(level.name()));
+    }
+
     @Override
     Class<? extends Logger> getLoggerClass() {
         return Log4j2Logger.class;
@@ -20,6 +20,7 @@ package org.jboss.logging;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.AppenderSkeleton;
 import org.apache.log4j.Level;
@@ -82,6 +83,24 @@ public class Log4jProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals(1, org.apache.log4j.NDC.getDepth());
     }
 
+    @Test
+    public void testDeferredFormatting() {
+        final AtomicInteger rendered = new AtomicInteger();
+        final Object parameter = new Object() {
+            @Override
+            public String toString() {
+                rendered.incrementAndGet();
+                return "value";
+            }
+        };
+        logger.infof("Deferred %s", parameter);
+        logger.infov("Deferred {0}", parameter);
+        Assertions.assertEquals(0, rendered.get());
+        testLog("Deferred value", Logger.Level.INFO);
+        testLog("Deferred value", Logger.Level.INFO);
+        Assertions.assertEquals(2, rendered.get());
+    }
+
     @Override
     void testLog(final Logger.Level level) {
         final String msg = String.format("Test log message at %s", level);
@@ -96,7 +115,7 @@ public class Log4jProviderTestCase extends AbstractLoggerTestCase {
         final LoggingEvent event = appender.queue.poll();
         Assertions.assertNotNull(event, String.format("No record found for %s", level));
         Assertions.assertEquals(level.name(), event.getLevel().toString());
-        Assertions.assertEquals(msg, event.getMessage());
+        Assertions.assertEquals(msg, event.getRenderedMessage());
     }
 
     @Override
@@ -104,6 +123,11 @@ public class Log4jProviderTestCase extends AbstractLoggerTestCase {
         return logger;
     }
 
+    @Override
+    void setLevel(final String name, final Logger.Level level) {
+        org.apache.log4j.Logger.getLogger(name).setLevel(org.apache.log4j.Level.toLevel(level.name()));
+    }
+
     @Override
     Class<? extends Logger> getLoggerClass() {
         return Log4jLogger.class;
@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogEventProviderTestCase {
+    private CapturingProvider provider;
+    private Logger logger;
+
+    @BeforeEach
+    public void setProvider() {
+        provider = new CapturingProvider();
+        LoggerProviders.setProvider(provider);
+        logger = Logger.getLogger(LogEventProviderTestCase.class);
+    }
+
+    @AfterEach
+    public void resetProvider() {
+        MDC.clear();
+        LoggerProviders.reset();
+    }
+
+    @Test
+    public void testEvent() {
+        final long start = System.nanoTime();
+        logger.infof("Message %d", 1);
+        logger.debug("Disabled");
+        Assertions.assertEquals(1, provider.events.size());
+        Assertions.assertTrue(provider.records.isEmpty(), "The event should not be written until it is emitted");
+
+        final LogEvent event = provider.events.get(0);
+        Assertions.assertEquals(LogEventProviderTestCase.class.getName(), event.getLoggerName());
+        Assertions.assertEquals(Logger.Level.INFO, event.getLevel());
+        Assertions.assertEquals(Logger.class.getName(), event.getLoggerClassName());
+        Assertions.assertEquals(LogEvent.FormatStyle.PRINTF, event.getFormatStyle());
+        Assertions.assertEquals("Message %d", event.getMessage());
+        Assertions.assertArrayEquals(new Object[] { 1 }, event.getParameters());
+        Assertions.assertEquals("Message 1", event.getFormattedMessage());
+        Assertions.assertNull(event.getThrown());
+        Assertions.assertTrue(event.getFields().isEmpty());
+        Assertions.assertTrue(event.getNanoTime() - start >= 0);
+        Assertions.assertEquals(Thread.currentThread().getName(), event.getThreadName());
+
+        event.emit();
+        Assertions.assertEquals(List.of("INFO Message 1"), provider.records);
+    }
+
+    @Test
+    public void testFormatStyle() {
+        final RuntimeException thrown = new RuntimeException();
+        logger.info("Plain");
+        logger.infov("Message {0}", "format");
+        logger.error("Failed", thrown);
+        Assertions.assertEquals(LogEvent.FormatStyle.NO_FORMAT, provider.events.get(0).getFormatStyle());
+        Assertions.assertEquals(LogEvent.FormatStyle.MESSAGE_FORMAT, provider.events.get(1).getFormatStyle());
+        Assertions.assertEquals("Message format", provider.events.get(1).getFormattedMessage());
+        Assertions.assertSame(thrown, provider.events.get(2).getThrown());
+    }
+
+    @Test
+    public void testFields() {
+        logger.with("bound", 1).atInfo().kv("added", 2).log("Fields");
+        final LogEvent event = provider.events.get(0);
+        Assertions.assertEquals(Map.of("bound", 1, "added", 2), event.getFields());
+        event.emit();
+        Assertions.assertEquals(List.of("INFO Fields {added=2, bound=1}"), provider.records);
+    }
+
+    @Test
+    public void testEmitOnOtherThread() throws Exception {
+        MDC.put("user", "test");
+        logger.info("Context");
+        MDC.remove("user");
+        final LogEvent event = provider.events.get(0);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(event::emit).get(5, TimeUnit.SECONDS);
+            // The context of the event is only restored while it is written
+            Assertions.assertNull(executor.submit(() -> MDC.get("user")).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(List.of("INFO Context {user=test}"), provider.records);
+    }
+
+    @Test
+    public void testContextNotRequested() throws Exception {
+        provider.captureContext = false;
+        MDC.put("user", "test");
+        logger.info("Context");
+        final LogEvent event = provider.events.get(0);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertNull(executor.submit(event::getContext).get(5, TimeUnit.SECONDS));
+            executor.submit(event::emit).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(List.of("INFO Context"), provider.records);
+        Assertions.assertNotNull(event.getContext());
+    }
+
+    @Test
+    public void testLogAll() {
+        logger.info("One");
+        logger.info("Two");
+        final List<LogEvent> events = new ArrayList<>(provider.events);
+        provider.events.clear();
+        provider.logAll(events);
+        Assertions.assertEquals(events, provider.events);
+    }
+
+    private static class CapturingProvider extends CapturingLoggerProvider implements LogEventProvider {
+        private final List<LogEvent> events = new CopyOnWriteArrayList<>();
+        private volatile boolean captureContext = true;
+
+        @Override
+        public void log(final LogEvent event) {
+            if (captureContext) {
+                // The tests emit the events on other threads
+                event.getContext();
+            }
+            events.add(event);
+        }
+
+        @Override
+        void write(final Logger.Level level, final String message, final Throwable thrown) {
+            final Map<String, Object> mdc = getMdcMap();
+            super.write(level, message + (mdc.isEmpty() ? "" : " " + new TreeMap<>(mdc)), thrown);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.LogContextSelector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MDCKeyTestCase {
+    private static final LogContextSelector DEFAULT_SELECTOR = LogContext.getLogContextSelector();
+    private static final AtomicBoolean SET_LOG_MANAGER = new AtomicBoolean(true);
+
+    private static final MDCKey<String> REQUEST_ID = MDCKey.of("requestId", String.class);
+    private static final MDCKey<Integer> ATTEMPT = MDCKey.of("attempt", Integer.class);
+
+    private LogContext logContext;
+    private TestHandler handler;
+    private Logger logger;
+
+    @BeforeAll
+    public static void setup() {
+        SET_LOG_MANAGER.set(System.getProperty("java.util.logging.manager") == null);
+        if (SET_LOG_MANAGER.get()) {
+            System.setProperty("java.util.logging.manager", "org.jboss.logmanager.LogManager");
+        }
+        System.setProperty("org.jboss.logging.provider", "jboss");
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (SET_LOG_MANAGER.get()) {
+            System.clearProperty("java.util.logging.manager");
+        }
+        System.clearProperty("org.jboss.logging.provider");
+    }
+
+    @BeforeEach
+    public void setupLogContext() {
+        logContext = LogContext.create();
+        LogContext.setLogContextSelector(() -> logContext);
+        logger = Logger.getLogger(getClass());
+        handler = new TestHandler();
+        final java.util.logging.Logger julLogger = logContext.getLogger(logger.getName());
+        julLogger.addHandler(handler);
+        julLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    public void closeLogContext() throws Exception {
+        MDC.clear();
+        logContext.close();
+        LogContext.setLogContextSelector(DEFAULT_SELECTOR);
+    }
+
+    @Test
+    public void testKey() {
+        Assertions.assertSame(REQUEST_ID, MDCKey.of("requestId", String.class));
+        Assertions.assertEquals("requestId", REQUEST_ID.getName());
+        Assertions.assertEquals(String.class, REQUEST_ID.getType());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MDCKey.of("requestId", Integer.class));
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        Assertions.assertNull(REQUEST_ID.put("r1"));
+        Assertions.assertEquals("r1", REQUEST_ID.get());
+        Assertions.assertEquals("r1", REQUEST_ID.put("r2"));
+        ATTEMPT.put(3);
+        Assertions.assertEquals(3, ATTEMPT.get());
+        REQUEST_ID.remove();
+        Assertions.assertNull(REQUEST_ID.get());
+        Assertions.assertEquals(3, ATTEMPT.get());
+    }
+
+    @Test
+    public void testPublishedWhenLogged() {
+        REQUEST_ID.put("r1");
+        ATTEMPT.put(1);
+
+        // Disabled messages do not publish the values
+        logger.debug("disabled");
+        Assertions.assertNull(org.jboss.logmanager.MDC.get("requestId"));
+
+        logger.info("enabled");
+        final ExtLogRecord record = handler.queue.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("r1", record.getMdc("requestId"));
+        Assertions.assertEquals("1", record.getMdc("attempt"));
+
+        REQUEST_ID.remove();
+        ATTEMPT.put(2);
+        logger.infof("enabled %s", "again");
+        final ExtLogRecord next = handler.queue.poll();
+        Assertions.assertNotNull(next);
+        Assertions.assertNull(next.getMdc("requestId"));
+        Assertions.assertEquals("2", next.getMdc("attempt"));
+    }
+
+    @Test
+    public void testMdc() {
+        REQUEST_ID.put("r1");
+        // Reading the context with MDC publishes the values
+        Assertions.assertEquals("r1", MDC.get("requestId"));
+        Assertions.assertEquals("r1", MDC.getMap().get("requestId"));
+        Assertions.assertEquals("r1", org.jboss.logmanager.MDC.get("requestId"));
+
+        // Values written with MDC are visible to the key
+        Assertions.assertEquals("r1", MDC.put("requestId", "r2"));
+        Assertions.assertEquals("r2", REQUEST_ID.get());
+        MDC.remove("requestId");
+        Assertions.assertNull(REQUEST_ID.get());
+
+        REQUEST_ID.put("r3");
+        MDC.clear();
+        Assertions.assertNull(REQUEST_ID.get());
+        logger.info("cleared");
+        final ExtLogRecord record = handler.queue.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertNull(record.getMdc("requestId"));
+    }
+
+    @Test
+    public void testPutLazy() {
+        final AtomicInteger calls = new AtomicInteger();
+        MDC.putLazy("principal", () -> "user" + calls.incrementAndGet());
+        REQUEST_ID.putLazy(() -> "lazy-request");
+
+        logger.debug("disabled");
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertNull(org.jboss.logmanager.MDC.get("principal"));
+
+        logger.info("enabled");
+        logger.info("enabled again");
+        Assertions.assertEquals(1, calls.get());
+        for (int i = 0; i < 2; i++) {
+            final ExtLogRecord record = handler.queue.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertEquals("user1", record.getMdc("principal"));
+            Assertions.assertEquals("lazy-request", record.getMdc("requestId"));
+        }
+        Assertions.assertEquals("user1", MDC.get("principal"));
+        Assertions.assertEquals("lazy-request", REQUEST_ID.get());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testPutLazyNotResolvedByOtherEntries() {
+        final AtomicInteger calls = new AtomicInteger();
+        MDC.putLazy("principal", () -> "user" + calls.incrementAndGet());
+        MDC.put("other", "value");
+        Assertions.assertEquals("value", MDC.get("other"));
+        MDC.remove("other");
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals("user1", MDC.get("principal"));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testPutLazyResolvedOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        REQUEST_ID.putLazy(() -> {
+            calls.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "shared";
+        });
+        // The captured value is resolved by every thread which restores the context
+        final LoggingContext context = LoggingContext.capture();
+        final List<Thread> threads = new ArrayList<>();
+        final List<String> values = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread thread = new Thread(context.wrap(() -> {
+                values.add(REQUEST_ID.get());
+            }));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(List.of("shared", "shared", "shared", "shared"), values);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testPutLazyBounded() {
+        final AtomicInteger calls = new AtomicInteger();
+        final int count = MDCKey.MAX_IMPLICIT_KEYS + 10;
+        for (int i = 0; i < count; i++) {
+            final int value = i;
+            MDC.putLazy("bounded." + i, () -> {
+                calls.incrementAndGet();
+                return value;
+            });
+        }
+        // The keys beyond the limit are computed immediately
+        Assertions.assertTrue(calls.get() >= 10, "Computed " + calls.get());
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(i, MDC.get("bounded." + i));
+        }
+        Assertions.assertEquals(count, calls.get());
+    }
+
+    @Test
+    public void testScope() {
+        REQUEST_ID.put("r1");
+        try (MDC.Scope scope = MDC.with("requestId", "r2")) {
+            Assertions.assertEquals("r2", REQUEST_ID.get());
+            Assertions.assertEquals("r2", org.jboss.logmanager.MDC.get("requestId"));
+        }
+        Assertions.assertEquals("r1", REQUEST_ID.get());
+        Assertions.assertEquals("r1", MDC.get("requestId"));
+    }
+
+    @Test
+    public void testLoggingContext() throws Exception {
+        REQUEST_ID.put("r1");
+        final LoggingContext context = LoggingContext.capture();
+        REQUEST_ID.put("r2");
+        final Thread thread = new Thread(context.wrap(() -> {
+            Assertions.assertEquals("r1", REQUEST_ID.get());
+            logger.info("Test message");
+        }));
+        thread.start();
+        thread.join();
+        final ExtLogRecord record = handler.queue.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("r1", record.getMdc("requestId"));
+
+        try (LoggingContext.Scope scope = context.restore()) {
+            Assertions.assertEquals("r1", REQUEST_ID.get());
+            Assertions.assertEquals("r1", org.jboss.logmanager.MDC.get("requestId"));
+        }
+        Assertions.assertEquals("r2", REQUEST_ID.get());
+        Assertions.assertEquals("r2", MDC.get("requestId"));
+    }
+
+    private static class TestHandler extends Handler {
+        final BlockingQueue<ExtLogRecord> queue = new LinkedBlockingQueue<>();
+
+        @Override
+        public void publish(final LogRecord record) {
+            final ExtLogRecord extRecord = (ExtLogRecord) record;
+            extRecord.copyMdc();
+            queue.add(extRecord);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws SecurityException {
+            queue.clear();
+        }
+    }
+}
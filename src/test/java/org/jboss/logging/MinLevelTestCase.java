@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MinLevelTestCase {
+    private TestHandler handler;
+    private Logger logger;
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty("org.jboss.logging.provider", "jdk");
+        System.setProperty(Logger.MIN_LEVEL_KEY, "info");
+    }
+
+    @AfterAll
+    public static void clearProperties() {
+        System.clearProperty("org.jboss.logging.provider");
+        System.clearProperty(Logger.MIN_LEVEL_KEY);
+    }
+
+    @BeforeEach
+    public void setupHandler() {
+        logger = Logger.getLogger(getClass());
+        handler = new TestHandler();
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(logger.getName());
+        julLogger.addHandler(handler);
+        julLogger.setLevel(Level.ALL);
+    }
+
+    @AfterEach
+    public void removeHandler() {
+        java.util.logging.Logger.getLogger(logger.getName()).removeHandler(handler);
+        handler.close();
+    }
+
+    @Test
+    public void testEnabled() {
+        Assertions.assertFalse(logger.isTraceEnabled());
+        Assertions.assertFalse(logger.isDebugEnabled());
+        Assertions.assertTrue(logger.isInfoEnabled());
+        for (Logger.Level level : Logger.Level.values()) {
+            final boolean expected = level.compareTo(Logger.Level.INFO) <= 0;
+            Assertions.assertEquals(expected, logger.isEnabled(level), () -> String.format("Level %s", level));
+        }
+    }
+
+    @Test
+    public void testDiscarded() {
+        logger.trace("trace");
+        logger.tracef("tracef %s", "param");
+        logger.debug("debug");
+        logger.debugv("debugv {0}", "param");
+        logger.debugf(new RuntimeException(), "debugf %s %s", "param1", "param2");
+        logger.log(Logger.Level.DEBUG, "log");
+        logger.logf(Logger.Level.TRACE, "logf %s", "param");
+        logger.atDebug().kv("key", "value").log("atDebug");
+        Assertions.assertSame(ReusableLogBuilder.NOOP, logger.at(Logger.Level.TRACE));
+        Assertions.assertTrue(handler.queue.isEmpty(), () -> String.format("Unexpected records %s", handler.queue));
+    }
+
+    @Test
+    public void testLogged() {
+        logger.info("info");
+        logger.warnf("warnf %s", "param");
+        logger.log(Logger.Level.ERROR, "log");
+        logger.fatal("fatal");
+        Assertions.assertEquals("info", handler.queue.poll().getMessage());
+        Assertions.assertEquals("warnf param", handler.queue.poll().getMessage());
+        Assertions.assertEquals("log", handler.queue.poll().getMessage());
+        Assertions.assertEquals("fatal", handler.queue.poll().getMessage());
+    }
+
+    private static class TestHandler extends Handler {
+        final BlockingQueue<LogRecord> queue = new LinkedBlockingQueue<>();
+
+        @Override
+        public void publish(final LogRecord record) {
+            queue.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws SecurityException {
+            queue.clear();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NativeImageFeatureTestCase {
+
+    @Test
+    public void testNotSelectedOnJvm() {
+        Assertions.assertNull(BuildTimeLoggerProvider.TYPE);
+        Assertions.assertNull(BuildTimeLoggerProvider.FACTORY);
+    }
+
+    @Test
+    public void testExplicitProvider() {
+        final ClassLoader cl = NativeImageFeatureTestCase.class.getClassLoader();
+        Assertions.assertEquals(JBossLogManagerProvider.class, BuildTimeLoggerProvider.findType("jboss", cl));
+        Assertions.assertEquals(JDKLoggerProvider.class, BuildTimeLoggerProvider.findType("jdk", cl));
+        Assertions.assertEquals(Log4j2LoggerProvider.class, BuildTimeLoggerProvider.findType("log4j2", cl));
+        Assertions.assertEquals(Log4jLoggerProvider.class, BuildTimeLoggerProvider.findType("log4j", cl));
+        Assertions.assertEquals(Slf4jLoggerProvider.class, BuildTimeLoggerProvider.findType("slf4j", cl));
+    }
+
+    @Test
+    public void testServiceProvider() {
+        // The provider with the highest priority is selected without being instantiated
+        Assertions.assertEquals(CustomProviderTestCase.TestProvider.class,
+                BuildTimeLoggerProvider.findType(null, NativeImageFeatureTestCase.class.getClassLoader()));
+    }
+
+    @Test
+    public void testFactory() {
+        Assertions.assertInstanceOf(JDKLoggerProvider.class, BuildTimeLoggerProvider.factory(JDKLoggerProvider.class).get());
+        Assertions.assertInstanceOf(CustomProviderTestCase.TestProvider.class,
+                BuildTimeLoggerProvider.factory(CustomProviderTestCase.TestProvider.class).get());
+    }
+
+    @Test
+    public void testGeneratedClassNames(@TempDir final Path dir) throws IOException {
+        for (String name : List.of("com/acme/Log_$logger.class", "com/acme/Messages_$bundle_de.class",
+                "com/acme/Log.class", "com/acme/Log_$logger.properties", "META-INF/versions/Log_$logger.class")) {
+            final Path file = dir.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.createFile(file);
+        }
+        final List<String> names = NativeImageFeature.findGeneratedClassNames(List.of(dir));
+        Assertions.assertEquals(2, names.size(), names.toString());
+        Assertions.assertTrue(names.contains("com.acme.Log_$logger"), names.toString());
+        Assertions.assertTrue(names.contains("com.acme.Messages_$bundle_de"), names.toString());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitedLoggerTestCase extends AbstractForwardingLoggerTestCase {
+    private final Map<String, Integer> limits = RateLimitedLogger.parse("org.acme=1000, org.acme.limited=2,invalid");
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Test
+    public void testRateLimited() {
+        final Logger logger = getLogger().rateLimited(3);
+        for (int i = 0; i < 10; i++) {
+            logger.infof("Message %d", i);
+        }
+        logger.debug("Disabled");
+        Assertions.assertEquals(List.of("INFO Message 0", "INFO Message 1", "INFO Message 2"), provider.records);
+    }
+
+    @Test
+    public void testSuppressedSummary() throws Exception {
+        final Logger logger = new RateLimitedLogger(getClass().getName(), getLogger(),
+                new TokenBucket(1, TimeUnit.MILLISECONDS.toNanos(100)));
+        logger.info("First");
+        logger.info("Suppressed");
+        logger.warn("Suppressed");
+        Thread.sleep(150);
+        logger.info("Next");
+        Assertions.assertEquals(List.of("INFO First", "WARN 2 messages were suppressed by the rate limit of 1 per second",
+                "INFO Next"), provider.records);
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final TokenBucket bucket = new TokenBucket(1000, TimeUnit.HOURS.toNanos(1));
+        final AtomicInteger acquired = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    if (bucket.tryAcquire(Logger.Level.INFO) >= 0) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(1000, acquired.get());
+        Assertions.assertEquals(Logger.Level.INFO, bucket.takeSuppressedLevel());
+    }
+
+    @Test
+    public void testCategory() {
+        final Logger first = forCategory("org.acme.limited.first");
+        final Logger second = forCategory("org.acme.limited.second");
+        final Logger other = forCategory("org.acme.limitedother");
+        final Logger unlimited = forCategory("org.other");
+        Assertions.assertInstanceOf(RateLimitedLogger.class, other);
+        Assertions.assertFalse(unlimited instanceof RateLimitedLogger);
+        for (int i = 0; i < 3; i++) {
+            first.info("First");
+            second.info("Second");
+            other.info("Other");
+            unlimited.info("Unlimited");
+        }
+        // The loggers of a category share the limit of the category
+        Assertions.assertEquals(List.of("INFO First", "INFO Second", "INFO Other", "INFO Unlimited", "INFO Other",
+                "INFO Unlimited", "INFO Other", "INFO Unlimited"), provider.records);
+    }
+
+    @Test
+    public void testDelegatingBasicLogger() {
+        final BasicLogger logger = new DelegatingBasicLogger(getLogger().rateLimited(1));
+        logger.info("First");
+        logger.info("Second");
+        Assertions.assertEquals(List.of("INFO First"), provider.records);
+    }
+
+    @Test
+    public void testParse() {
+        Assertions.assertEquals(2, RateLimitedLogger.parse("a=1,b=x,=3,c=0,d = 4").size());
+    }
+
+    private Logger forCategory(final String name) {
+        return RateLimitedLogger.forCategory(name, provider.getLogger(name), limits, buckets);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SampledRequestTestCase {
+    private CapturingProvider provider;
+    private Logger logger;
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty(SampledRequest.KEY_KEY, "requestId");
+        System.setProperty(SampledRequest.CAPACITY_KEY, "3");
+    }
+
+    @AfterAll
+    public static void clearProperties() {
+        System.clearProperty(SampledRequest.KEY_KEY);
+        System.clearProperty(SampledRequest.CAPACITY_KEY);
+    }
+
+    @BeforeEach
+    public void setProvider() {
+        provider = new CapturingProvider();
+        LoggerProviders.setProvider(provider);
+        logger = Logger.getLogger(SampledRequestTestCase.class);
+    }
+
+    @AfterEach
+    public void resetProvider() {
+        MDC.clear();
+        LoggerProviders.reset();
+    }
+
+    @Test
+    public void testDiscarded() {
+        try (SampledRequest ignored = SampledRequest.begin("1")) {
+            MDC.put("requestId", "1");
+            logger.info("Buffered");
+            logger.debug("Disabled");
+            MDC.put("requestId", "2");
+            logger.info("Other request");
+            MDC.remove("requestId");
+            logger.info("No request");
+            Assertions.assertEquals(List.of("INFO Other request requestId=2", "INFO No request"), provider.records);
+        }
+        Assertions.assertEquals(2, provider.records.size());
+    }
+
+    @Test
+    public void testWrittenOnError() {
+        try (SampledRequest ignored = SampledRequest.begin("1")) {
+            MDC.put("requestId", "1");
+            logger.info("First");
+            logger.errorf("Failed %d", 1);
+            // The error is written immediately, after the messages buffered before it
+            Assertions.assertEquals(2, provider.records.size());
+            Assertions.assertTrue(provider.records.get(0).matches("INFO \\[\\+\\d+ ms\\] First requestId=1"),
+                    provider.records.get(0));
+            Assertions.assertEquals("ERROR Failed 1 requestId=1", provider.records.get(1));
+            logger.info("After");
+            logger.error("Failed again");
+            Assertions.assertEquals(List.of("INFO After requestId=1", "ERROR Failed again requestId=1"),
+                    provider.records.subList(2, provider.records.size()));
+            MDC.remove("requestId");
+        }
+        Assertions.assertEquals(4, provider.records.size());
+    }
+
+    @Test
+    public void testKeep() throws Exception {
+        try (SampledRequest request = SampledRequest.begin("1")) {
+            final Thread thread = new Thread(() -> {
+                MDC.put("requestId", "1");
+                logger.info("Other thread");
+            });
+            thread.start();
+            thread.join();
+            request.keep();
+            Assertions.assertTrue(provider.records.isEmpty());
+        }
+        Assertions.assertEquals(List.of("INFO Other thread requestId=1"), withoutOffsets());
+    }
+
+    @Test
+    public void testOffset() throws Exception {
+        try (SampledRequest request = SampledRequest.begin("1")) {
+            MDC.put("requestId", "1");
+            Thread.sleep(50);
+            logger.info("Late");
+            request.keep();
+        }
+        Assertions.assertEquals(1, provider.records.size());
+        final String record = provider.records.get(0);
+        Assertions.assertTrue(record.matches("INFO \\[\\+\\d+ ms\\] Late requestId=1"), record);
+        final long offset = Long.parseLong(record.substring(record.indexOf('+') + 1, record.indexOf(" ms")));
+        Assertions.assertTrue(offset >= 50, record);
+    }
+
+    @Test
+    public void testNonStringContext() {
+        try (SampledRequest request = SampledRequest.begin("42")) {
+            MDC.put("requestId", 42L);
+            logger.info("Numeric id");
+            Assertions.assertTrue(provider.records.isEmpty());
+            request.keep();
+        }
+        Assertions.assertEquals(List.of("INFO Numeric id requestId=42"), withoutOffsets());
+    }
+
+    @Test
+    public void testCapacity() {
+        try (SampledRequest ignored = SampledRequest.begin("1")) {
+            MDC.put("requestId", "1");
+            for (int i = 1; i <= 4; i++) {
+                logger.infof("Message %d", i);
+            }
+            Assertions.assertEquals(List.of("INFO Message 4 requestId=1"), provider.records);
+        }
+        Assertions.assertEquals(1, provider.records.size());
+    }
+
+    @Test
+    public void testDuplicateId() {
+        try (SampledRequest ignored = SampledRequest.begin("1")) {
+            Assertions.assertThrows(IllegalStateException.class, () -> SampledRequest.begin("1"));
+        }
+        SampledRequest.begin("1").close();
+    }
+
+    private List<String> withoutOffsets() {
+        final List<String> records = new ArrayList<>();
+        for (String record : provider.records) {
+            Assertions.assertTrue(record.matches("\\w+ \\[\\+\\d+ ms\\] .*"), record);
+            records.add(record.replaceFirst("\\[\\+\\d+ ms\\] ", ""));
+        }
+        return records;
+    }
+
+    private static class CapturingProvider extends CapturingLoggerProvider {
+        @Override
+        void write(final Logger.Level level, final String message, final Throwable thrown) {
+            final Object id = getMdc("requestId");
+            super.write(level, message + (id == null ? "" : " requestId=" + id), thrown);
+        }
+    }
+}
@@ -65,6 +65,69 @@ public class Slf4jProviderTestCase extends AbstractLoggerTestCase {
         Assertions.assertEquals("value", org.slf4j.MDC.get("test.key"));
     }
 
+    @Test
+    public void testMdcSnapshotNotCopied() {
+        MDC.put("test.key", "value");
+        // The immutable map of the log manager is returned until the context is modified
+        Assertions.assertSame(MDC.snapshot(), MDC.snapshot());
+    }
+
+    @Test
+    public void testWithFields() {
+        logger.with("bound.key", "value", "bound.other", null).infof("Bound %s", "message");
+        final ILoggingEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals("Bound message", event.getFormattedMessage());
+        Assertions.assertEquals(1, event.getKeyValuePairs().size());
+        Assertions.assertEquals("bound.key", event.getKeyValuePairs().get(0).key);
+        Assertions.assertEquals("value", event.getKeyValuePairs().get(0).value);
+        Assertions.assertFalse(event.getMDCPropertyMap().containsKey("bound.key"));
+        // The caller is the class which logged the message
+        Assertions.assertEquals(getClass().getName(), event.getCallerData()[0].getClassName());
+    }
+
+    @Test
+    public void testWithRepeatedKey() {
+        logger.with("bound.key", "first", "bound.key", "second").info("Repeated");
+        final ILoggingEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals(1, event.getKeyValuePairs().size());
+        Assertions.assertEquals("second", event.getKeyValuePairs().get(0).value);
+    }
+
+    @Test
+    public void testLogBuilderFields() {
+        final RuntimeException cause = new RuntimeException();
+        logger.atInfo().kv("fluent.key", 2).cause(cause).logf("Fluent %s", "message");
+        final ILoggingEvent event = appender.queue.poll();
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals("Fluent message", event.getFormattedMessage());
+        Assertions.assertEquals("fluent.key", event.getKeyValuePairs().get(0).key);
+        Assertions.assertEquals(2, event.getKeyValuePairs().get(0).value);
+        Assertions.assertNotNull(event.getThrowableProxy());
+        Assertions.assertEquals(getClass().getName(), event.getCallerData()[0].getClassName());
+    }
+
+    @Test
+    public void testFormattedMessage() {
+        final Logger logger = Logger.getLogger(getClass().getName() + ".formatted");
+        final TestAppender appender = createHandler(logger.getName());
+        final ch.qos.logback.classic.Logger lbLogger = (ch.qos.logback.classic.Logger) LoggerFactory
+                .getLogger(logger.getName());
+        lbLogger.setAdditive(false);
+        logger.infof("Formatted %s", "printf");
+        logger.infov("Formatted {0}", "message format");
+        final ILoggingEvent printf = appender.queue.poll();
+        final ILoggingEvent messageFormat = appender.queue.poll();
+        // The events carry the formatted text, so Logback sees neither the pattern syntax nor internal types
+        Assertions.assertEquals("Formatted printf", printf.getMessage());
+        Assertions.assertEquals("Formatted message format", messageFormat.getMessage());
+        Assertions.assertEquals(0, printf.getArgumentArray().length);
+        Assertions.assertEquals(0, messageFormat.getArgumentArray().length);
+        lbLogger.detachAppender(appender);
+        appender.stop();
+    }
+
     @Test
     public void testNdc() {
         NDC.push("value1");
@@ -102,6 +165,11 @@ public class Slf4jProviderTestCase extends AbstractLoggerTestCase {
         return logger;
     }
 
+    @Override
+    void setLevel(final String name, final Logger.Level level) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(name)).setLevel(Level.toLevel(level.name()));
+    }
+
     @Override
     Class<? extends Logger> getLoggerClass() {
         return Slf4jLocationAwareLogger.class;
@@ -124,6 +192,8 @@ public class Slf4jProviderTestCase extends AbstractLoggerTestCase {
 
         @Override
         protected void append(final ILoggingEvent event) {
+            // The caller is resolved from the stack, so it must be resolved while the message is logged
+            event.getCallerData();
             queue.add(event);
         }
     }
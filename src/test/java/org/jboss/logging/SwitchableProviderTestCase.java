@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class SwitchableProviderTestCase {
+
+    @BeforeAll
+    public static void setup() {
+        System.setProperty("org.jboss.logging.provider", "jdk");
+        System.setProperty("org.jboss.logging.provider.switchable", "true");
+    }
+
+    @AfterAll
+    public static void clearProperties() {
+        System.clearProperty("org.jboss.logging.provider");
+        System.clearProperty("org.jboss.logging.provider.switchable");
+    }
+
+    @Test
+    public void testSwitchProvider() {
+        final Logger logger = Logger.getLogger(SwitchableProviderTestCase.class);
+        Assertions.assertInstanceOf(JDKLoggerProvider.class, LoggerProviders.getProvider());
+
+        final CapturingLoggerProvider provider = new CapturingLoggerProvider(Logger.Level.TRACE);
+        LoggerProviders.setProvider(provider);
+        try {
+            Assertions.assertSame(provider, LoggerProviders.getProvider());
+            logger.infof("Message %d", 1);
+            Assertions.assertEquals(List.of("Message 1"), provider.messages());
+
+            MDC.put("key", "value");
+            Assertions.assertEquals("value", provider.getMdc("key"));
+        } finally {
+            Assertions.assertInstanceOf(JDKLoggerProvider.class, LoggerProviders.reset());
+        }
+        logger.info("Message 2");
+        Assertions.assertEquals(List.of("Message 1"), provider.messages());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logging;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TrimmingLoggerTestCase extends AbstractForwardingLoggerTestCase {
+
+    @Override
+    Logger.Level threshold() {
+        return Logger.Level.TRACE;
+    }
+
+    @Override
+    Logger wrap(final String name, final Logger logger) {
+        return new TrimmingLogger(name, logger, new TrimmingLogger.Trimmer(List.of(), 3, -1));
+    }
+
+    @Test
+    public void testLogged() {
+        final IOException original = exception("Read failed", "app.A", "app.B", "app.C", "app.D", "app.E");
+        final Logger logger = getLogger();
+        logger.error("Failed", original);
+        logger.error("Failed again", original);
+        Assertions.assertEquals(2, provider.thrown.size());
+        final Throwable trimmed = provider.thrown.get(0);
+        Assertions.assertSame(trimmed, provider.thrown.get(1));
+        Assertions.assertNotSame(original, trimmed);
+        // The copy is rendered like the original
+        Assertions.assertEquals("java.io.IOException: Read failed", trimmed.toString());
+        Assertions.assertEquals("Read failed", trimmed.getMessage());
+        Assertions.assertEquals(List.of("app.A.run(A.java:1)", "app.B.run(B.java:1)", "app.C.run(C.java:1)",
+                "...(2 frames omitted)"), render(trimmed.getStackTrace()));
+        // The original exception is not modified
+        Assertions.assertEquals(5, original.getStackTrace().length);
+    }
+
+    @Test
+    public void testCollapse() {
+        final TrimmingLogger.Trimmer trimmer = new TrimmingLogger.Trimmer(List.of("java.lang.reflect.", "proxy."), -1,
+                -1);
+        final Throwable trimmed = trimmer.trim(exception("Failed", "app.A", "java.lang.reflect.Method",
+                "java.lang.reflect.Method", "proxy.P", "app.B", "proxy.P", "app.C"));
+        Assertions.assertEquals(List.of("app.A.run(A.java:1)", "...(3 frames omitted)", "app.B.run(B.java:1)",
+                "proxy.P.run(P.java:1)", "app.C.run(C.java:1)"), render(trimmed.getStackTrace()));
+    }
+
+    @Test
+    public void testCauses() {
+        final TrimmingLogger.Trimmer trimmer = new TrimmingLogger.Trimmer(List.of(), -1, 1);
+        final IOException root = exception("Root", "app.A");
+        final IOException middle = exception("Middle", "app.B");
+        final IOException top = exception("Top", "app.C");
+        middle.initCause(root);
+        top.initCause(middle);
+        top.addSuppressed(exception("Suppressed", "app.D"));
+        final Throwable trimmed = trimmer.trim(top);
+        Assertions.assertEquals("java.io.IOException: Middle", trimmed.getCause().toString());
+        Assertions.assertNull(trimmed.getCause().getCause());
+        Assertions.assertEquals(List.of("app.B.run(B.java:1)", "...(1 causes omitted)"),
+                render(trimmed.getCause().getStackTrace()));
+        Assertions.assertEquals(1, trimmed.getSuppressed().length);
+        Assertions.assertEquals("java.io.IOException: Suppressed", trimmed.getSuppressed()[0].toString());
+    }
+
+    @Test
+    public void testUnchanged() {
+        final TrimmingLogger.Trimmer trimmer = new TrimmingLogger.Trimmer(List.of("proxy."), 3, -1);
+        final IOException thrown = exception("Short", "app.A", "proxy.P", "app.B");
+        Assertions.assertSame(thrown, trimmer.trim(thrown));
+        Assertions.assertSame(thrown, trimmer.trim(thrown));
+    }
+
+    @Test
+    public void testNotSerializable() {
+        final TrimmingLogger.Trimmer trimmer = new TrimmingLogger.Trimmer(List.of(), 1, -1);
+        final IOException thrown = exception("Not serializable", "app.A", "app.B");
+        final NotSerializableException suppressed = new NotSerializableException(new Object());
+        suppressed.setStackTrace(new StackTraceElement[0]);
+        thrown.addSuppressed(suppressed);
+        final Throwable trimmed = trimmer.trim(thrown);
+        Assertions.assertNotSame(thrown, trimmed);
+        Assertions.assertEquals(List.of("app.A.run(A.java:1)", "...(1 frames omitted)"), render(trimmed.getStackTrace()));
+        Assertions.assertEquals(NotSerializableException.class.getName(), trimmed.getSuppressed()[0].toString());
+        Assertions.assertEquals(2, thrown.getStackTrace().length);
+    }
+
+    private static IOException exception(final String message, final String... classNames) {
+        final IOException exception = new IOException(message);
+        final StackTraceElement[] stackTrace = new StackTraceElement[classNames.length];
+        for (int i = 0; i < classNames.length; i++) {
+            final String simpleName = classNames[i].substring(classNames[i].lastIndexOf('.') + 1);
+            stackTrace[i] = new StackTraceElement(classNames[i], "run", simpleName + ".java", 1);
+        }
+        exception.setStackTrace(stackTrace);
+        return exception;
+    }
+
+    private static class NotSerializableException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        @SuppressWarnings({ "unused", "serial" })
+        private final Object state;
+
+        NotSerializableException(final Object state) {
+            this.state = state;
+        }
+
+        private void writeObject(final java.io.ObjectOutputStream out) {
+            throw new AssertionError("The exception should not be serialized");
+        }
+    }
+
+    private static List<String> render(final StackTraceElement[] stackTrace) {
+        final List<String> frames = new ArrayList<>();
+        for (StackTraceElement element : stackTrace) {
+            frames.add(element.toString());
+        }
+        return frames;
+    }
+}